@@ -0,0 +1,272 @@
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A abstract bounded cache mapping keys of type <span><</span>K<span>></span> to values of type
+ * <span><</span>V<span>></span>. Entries are held in nodes of a {@link DoublyLinkedList} and looked up through a hash
+ * map, so the eviction policy can reorder and remove entries in constant time
+ * @param <K> A generic parameter representing the key used to look up a value
+ * @param <V> A generic parameter representing the data object stored in the cache
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public abstract class Cache<K, V> {
+
+    /**
+     * A protected inner-class holding a cached value along with the bookkeeping used by the eviction policies
+     */
+    protected class Entry {
+
+        protected final K key;
+        protected V value;
+        protected int weight;
+
+        /** Number of times the entry has been accessed, used by frequency based policies */
+        protected int frequency;
+
+        public Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.frequency = 1;
+        }
+
+        public String toString() {
+            return String.format("%s=%s", key, value);
+        }
+
+    }
+
+    protected final HashMap<K, LinkedList<Entry>.Node<Entry>> entries;
+    protected final long capacity;
+    protected long weight;
+
+    private final ToIntBiFunction<K, V> weigher;
+    private BiConsumer<K, V> listener;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * <code>Cache</code> Constructor where each entry has a weight of 1
+     * @param capacity Maximum number of entries to hold
+     */
+    public Cache(long capacity) {
+        this(capacity, (k, v) -> 1);
+    }
+
+    /**
+     * <code>Cache</code> Constructor
+     * @param capacity Maximum total weight of the entries to hold
+     * @param weigher Function calculating the weight of an entry
+     * @exception IllegalArgumentException If the <code>capacity</code> is not positive
+     */
+    public Cache(long capacity, ToIntBiFunction<K, V> weigher) {
+        if (capacity <= 0) { throw new IllegalArgumentException("Cache capacity must be greater than 0"); }
+        this.entries = new HashMap<>();
+        this.capacity = capacity;
+        this.weight = 0;
+        this.weigher = weigher;
+        this.listener = null;
+    }
+
+    /**
+     * Sets the function called with the key and value of each entry evicted by the cache's policy
+     * @param listener Eviction listener, or <code>NULL</code> to remove the current listener
+     */
+    public void setEvictionListener(BiConsumer<K, V> listener) { this.listener = listener; }
+
+    /**
+     * Retrieves the value mapped to the <code>key</code> and records the access with the eviction policy
+     * @param key Key to look up
+     * @return The cached value or <code>NULL</code> if the key is not cached
+     */
+    public V get(K key) {
+        LinkedList<Entry>.Node<Entry> node = entries.get(key);
+        if (node == null) {
+            misses++;
+            onMiss(key);
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.getValue().value;
+    }
+
+    /**
+     * Maps the <code>key</code> to the <code>value</code>, evicting entries if the cache's capacity is exceeded. An
+     * entry heavier than the whole capacity is rejected without evicting any other entry, removing any value already
+     * cached for the key and passing the new value to the eviction listener
+     * @param key Key to store the value under
+     * @param value Value to cache
+     */
+    public void put(K key, V value) {
+        int w = weigher.applyAsInt(key, value);
+        if (w < 0) { throw new IllegalArgumentException("Entry weight cannot be negative"); }
+        if (w > capacity) {
+            remove(key);
+            evictions++;
+            if (listener != null) { listener.accept(key, value); }
+            return;
+        }
+
+        LinkedList<Entry>.Node<Entry> node = entries.get(key);
+        if (node == null) {
+            reserve(w);
+            Entry entry = newEntry(key, value, w);
+            entries.put(key, onInsert(entry));
+            weight += w;
+        } else {
+            Entry entry = node.getValue();
+            onWeightChange(node, w - entry.weight);
+            weight += w - entry.weight;
+            entry.value = value;
+            entry.weight = w;
+            onAccess(node);
+        }
+        evict();
+    }
+
+    /**
+     * Removes the entry mapped to the <code>key</code> without notifying the eviction listener
+     * @param key Key to remove
+     * @return The removed value or <code>NULL</code> if the key was not cached
+     */
+    public V remove(K key) {
+        LinkedList<Entry>.Node<Entry> node = entries.remove(key);
+        if (node == null) { return null; }
+        Entry entry = node.getValue();
+        onRemove(node);
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    /**
+     * Checks if a value is cached for the <code>key</code> without recording an access
+     * @param key Key to look up
+     * @return <code>True</code> if the key is cached or <code>False</code> otherwise
+     */
+    public boolean containsKey(K key) { return entries.containsKey(key); }
+
+    /**
+     * Retrieves the size of the cache
+     * @return Number of entries stored in the cache
+     */
+    public int getSize() { return entries.size(); }
+
+    /**
+     * Retrieves the total weight of the entries stored in the cache
+     * @return Sum of the weights of each entry
+     */
+    public long getWeight() { return weight; }
+
+    /**
+     * Maximum total weight of the entries that can be stored in the cache
+     * @return The capacity of the cache
+     */
+    public long getCapacity() { return capacity; }
+
+    /** @return Number of calls to <code>get</code> which found a cached value */
+    public long getHitCount() { return hits; }
+
+    /** @return Number of calls to <code>get</code> which did not find a cached value */
+    public long getMissCount() { return misses; }
+
+    /** @return Number of entries removed by the eviction policy */
+    public long getEvictionCount() { return evictions; }
+
+    /** @return The ratio of hits to total calls to <code>get</code>, or 0 if there have been no calls */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public String toString() {
+        return String.format("%s: size=%s, weight=%s, capacity=%s", this.getClass(), getSize(), weight, capacity);
+    }
+
+    /** Evicts the entries chosen by {@link #victim} until the total weight is within the capacity */
+    protected void evict() {
+        while (weight > capacity && !entries.isEmpty()) {
+            evictNode(victim());
+        }
+    }
+
+    /**
+     * Evicts the entries chosen by {@link #victim} until a new entry fits within the capacity. Evicting before the
+     * entry is added prevents policies which favour older entries from immediately evicting the new one
+     * @param w Weight of the entry about to be added, which is never more than the capacity
+     */
+    protected void reserve(int w) {
+        while (weight + w > capacity && !entries.isEmpty()) {
+            evictNode(victim());
+        }
+    }
+
+    /**
+     * Removes a node chosen by the eviction policy, recording the eviction and notifying the listener
+     * @param node Node to evict
+     */
+    protected void evictNode(LinkedList<Entry>.Node<Entry> node) {
+        Entry entry = node.getValue();
+        entries.remove(entry.key);
+        onRemove(node);
+        weight -= entry.weight;
+        evictions++;
+        if (listener != null) { listener.accept(entry.key, entry.value); }
+    }
+
+    /**
+     * Creates the entry for a new key, allowing policies to store their own bookkeeping in a subclass of
+     * {@link Entry}
+     * @param key Key of the entry
+     * @param value Value of the entry
+     * @param weight Weight of the entry
+     * @return A new entry
+     */
+    protected Entry newEntry(K key, V value, int weight) {
+        return new Entry(key, value, weight);
+    }
+
+    /**
+     * Records a lookup for a key which is not cached
+     * @param key Key that was looked up
+     */
+    protected void onMiss(K key) {}
+
+    /**
+     * Records a change in the weight of an entry before the cache's total weight is updated
+     * @param node Node of the entry being updated
+     * @param delta Difference between the new and old weight
+     */
+    protected void onWeightChange(LinkedList<Entry>.Node<Entry> node, int delta) {}
+
+    // Abstract Methods
+
+    /**
+     * Adds a new entry to the policy's lists
+     * @param entry Entry to add
+     * @return The node holding the entry
+     */
+    protected abstract LinkedList<Entry>.Node<Entry> onInsert(Entry entry);
+
+    /**
+     * Records an access to a cached entry
+     * @param node Node of the accessed entry
+     */
+    protected abstract void onAccess(LinkedList<Entry>.Node<Entry> node);
+
+    /**
+     * Removes an entry from the policy's lists
+     * @param node Node of the entry to remove
+     */
+    protected abstract void onRemove(LinkedList<Entry>.Node<Entry> node);
+
+    /** @return The node of the next entry to evict */
+    protected abstract LinkedList<Entry>.Node<Entry> victim();
+
+}
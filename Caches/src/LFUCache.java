@@ -0,0 +1,111 @@
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A cache which evicts the least frequently used entries first, breaking ties by evicting the least recently used.
+ * Entries are grouped into buckets of equal access frequency kept in ascending order, so an access only moves an
+ * entry to the neighbouring bucket
+ * @param <K> A generic parameter representing the key used to look up a value
+ * @param <V> A generic parameter representing the data object stored in the cache
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class LFUCache<K, V> extends Cache<K, V> {
+
+    /**
+     * A private inner-class holding the entries which have been accessed the same number of times, most recently
+     * used first
+     */
+    private class Bucket {
+
+        private final int frequency;
+        private final DoublyLinkedList<Entry> entries;
+
+        public Bucket(int frequency) {
+            this.frequency = frequency;
+            this.entries = new DoublyLinkedList<>();
+        }
+
+    }
+
+    /** A private inner-class recording the bucket an entry belongs to */
+    private class BucketEntry extends Entry {
+
+        private LinkedList<Bucket>.Node<Bucket> bucket;
+
+        public BucketEntry(K key, V value, int weight) {
+            super(key, value, weight);
+        }
+
+    }
+
+    private final DoublyLinkedList<Bucket> buckets;
+
+    public LFUCache(long capacity) {
+        super(capacity);
+        buckets = new DoublyLinkedList<>();
+    }
+
+    public LFUCache(long capacity, ToIntBiFunction<K, V> weigher) {
+        super(capacity, weigher);
+        buckets = new DoublyLinkedList<>();
+    }
+
+    /**
+     * Retrieves the number of recorded accesses for a key without recording a new one
+     * @param key Key to look up
+     * @return The access frequency of the key or 0 if it is not cached
+     */
+    public int getFrequency(K key) {
+        LinkedList<Entry>.Node<Entry> node = entries.get(key);
+        return node == null ? 0 : node.getValue().frequency;
+    }
+
+    @Override
+    protected Entry newEntry(K key, V value, int weight) {
+        return new BucketEntry(key, value, weight);
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> onInsert(Entry entry) {
+        LinkedList<Bucket>.Node<Bucket> bucket = buckets.getHead();
+        if (bucket == null || bucket.getValue().frequency != 1) {
+            bucket = buckets.insertNode(new Bucket(1), LinkedList.Insert.HEAD);
+        }
+        entry.frequency = 1;
+        ((BucketEntry) entry).bucket = bucket;
+        return bucket.getValue().entries.insertNode(entry, LinkedList.Insert.HEAD);
+    }
+
+    @Override
+    protected void onAccess(LinkedList<Entry>.Node<Entry> node) {
+        BucketEntry entry = (BucketEntry) node.getValue();
+        LinkedList<Bucket>.Node<Bucket> current = entry.bucket;
+        LinkedList<Bucket>.Node<Bucket> next = current.getNext();
+        entry.frequency++;
+        if (next == null || next.getValue().frequency != entry.frequency) {
+            next = buckets.insertNodeAfter(current, new Bucket(entry.frequency));
+        }
+
+        // Move Node
+        current.getValue().entries.deleteNode(node);
+        next.getValue().entries.linkNode(node, LinkedList.Insert.HEAD);
+        entry.bucket = next;
+        if (current.getValue().entries.isEmpty()) { buckets.deleteNode(current); }
+    }
+
+    @Override
+    protected void onRemove(LinkedList<Entry>.Node<Entry> node) {
+        LinkedList<Bucket>.Node<Bucket> bucket = ((BucketEntry) node.getValue()).bucket;
+        bucket.getValue().entries.deleteNode(node);
+        if (bucket.getValue().entries.isEmpty()) { buckets.deleteNode(bucket); }
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> victim() {
+        LinkedList<Bucket>.Node<Bucket> bucket = buckets.getHead();
+        return bucket.getValue().entries.getTail();
+    }
+
+}
@@ -0,0 +1,47 @@
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A cache which evicts the least recently used entries first
+ * @param <K> A generic parameter representing the key used to look up a value
+ * @param <V> A generic parameter representing the data object stored in the cache
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class LRUCache<K, V> extends Cache<K, V> {
+
+    // Most recently used entries are kept at the head of the list
+    private final DoublyLinkedList<Entry> recency;
+
+    public LRUCache(long capacity) {
+        super(capacity);
+        recency = new DoublyLinkedList<>();
+    }
+
+    public LRUCache(long capacity, ToIntBiFunction<K, V> weigher) {
+        super(capacity, weigher);
+        recency = new DoublyLinkedList<>();
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> onInsert(Entry entry) {
+        return recency.insertNode(entry, LinkedList.Insert.HEAD);
+    }
+
+    @Override
+    protected void onAccess(LinkedList<Entry>.Node<Entry> node) {
+        recency.moveNode(node, LinkedList.Insert.HEAD);
+    }
+
+    @Override
+    protected void onRemove(LinkedList<Entry>.Node<Entry> node) {
+        recency.deleteNode(node);
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> victim() {
+        return recency.getTail();
+    }
+
+}
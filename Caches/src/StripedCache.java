@@ -0,0 +1,169 @@
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * A thread-safe cache which splits its keys across several independently locked caches, so threads working on
+ * keys in different stripes do not contend with one another
+ * @param <K> A generic parameter representing the key used to look up a value
+ * @param <V> A generic parameter representing the data object stored in the cache
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class StripedCache<K, V> {
+
+    private final Cache<K, V>[] stripes;
+
+    /**
+     * <code>StripedCache</code> Constructor
+     * @param stripes Number of stripes to split the keys across, rounded up to a power of two. The number is reduced
+     *                to the largest power of two no greater than the <code>capacity</code>, so no stripe is empty
+     * @param capacity Maximum total weight of the entries to hold, divided as evenly as possible between the stripes
+     * @param factory Function creating the cache used by each stripe from the stripe's capacity, such as
+     *                <code>LRUCache::new</code>
+     * @exception IllegalArgumentException If the number of <code>stripes</code> or the <code>capacity</code> is not
+     * positive
+     */
+    public StripedCache(int stripes, long capacity, LongFunction<Cache<K, V>> factory) {
+        if (stripes <= 0) { throw new IllegalArgumentException("Number of stripes must be greater than 0"); }
+        if (capacity <= 0) { throw new IllegalArgumentException("Cache capacity must be greater than 0"); }
+
+        int count = 1;
+        while (count < stripes && count < capacity) { count <<= 1; }
+        if (count > capacity) { count >>= 1; }
+
+        // The first capacity % count stripes hold one extra unit so the stripes add up to exactly the capacity
+        long base = capacity / count;
+        long extra = capacity % count;
+
+        @SuppressWarnings("unchecked")
+        Cache<K, V>[] array = (Cache<K, V>[]) new Cache<?, ?>[count];
+        for (int i = 0; i < count; i++) { array[i] = factory.apply(i < extra ? base + 1 : base); }
+        this.stripes = array;
+    }
+
+    /**
+     * Sets the function called with the key and value of each evicted entry. The listener is called while the
+     * evicting stripe is locked, so it should not access the cache
+     * @param listener Eviction listener, or <code>NULL</code> to remove the current listener
+     */
+    public void setEvictionListener(BiConsumer<K, V> listener) {
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { stripe.setEvictionListener(listener); }
+        }
+    }
+
+    /**
+     * Retrieves the value mapped to the <code>key</code> and records the access with the eviction policy
+     * @param key Key to look up
+     * @return The cached value or <code>NULL</code> if the key is not cached
+     */
+    public V get(K key) {
+        Cache<K, V> stripe = stripeFor(key);
+        synchronized (stripe) { return stripe.get(key); }
+    }
+
+    /**
+     * Maps the <code>key</code> to the <code>value</code>, evicting entries if the stripe's capacity is exceeded
+     * @param key Key to store the value under
+     * @param value Value to cache
+     */
+    public void put(K key, V value) {
+        Cache<K, V> stripe = stripeFor(key);
+        synchronized (stripe) { stripe.put(key, value); }
+    }
+
+    /**
+     * Removes the entry mapped to the <code>key</code> without notifying the eviction listener
+     * @param key Key to remove
+     * @return The removed value or <code>NULL</code> if the key was not cached
+     */
+    public V remove(K key) {
+        Cache<K, V> stripe = stripeFor(key);
+        synchronized (stripe) { return stripe.remove(key); }
+    }
+
+    /**
+     * Checks if a value is cached for the <code>key</code> without recording an access
+     * @param key Key to look up
+     * @return <code>True</code> if the key is cached or <code>False</code> otherwise
+     */
+    public boolean containsKey(K key) {
+        Cache<K, V> stripe = stripeFor(key);
+        synchronized (stripe) { return stripe.containsKey(key); }
+    }
+
+    /**
+     * Retrieves the size of the cache
+     * @return Number of entries stored across all stripes
+     */
+    public int getSize() {
+        int size = 0;
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { size += stripe.getSize(); }
+        }
+        return size;
+    }
+
+    /**
+     * Retrieves the total weight of the entries stored in the cache
+     * @return Sum of the weights of each entry across all stripes
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { weight += stripe.getWeight(); }
+        }
+        return weight;
+    }
+
+    /** @return Number of calls to <code>get</code> which found a cached value */
+    public long getHitCount() {
+        long hits = 0;
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { hits += stripe.getHitCount(); }
+        }
+        return hits;
+    }
+
+    /** @return Number of calls to <code>get</code> which did not find a cached value */
+    public long getMissCount() {
+        long misses = 0;
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { misses += stripe.getMissCount(); }
+        }
+        return misses;
+    }
+
+    /** @return Number of entries removed by the eviction policy */
+    public long getEvictionCount() {
+        long evictions = 0;
+        for (Cache<K, V> stripe : stripes) {
+            synchronized (stripe) { evictions += stripe.getEvictionCount(); }
+        }
+        return evictions;
+    }
+
+    /** @return The ratio of hits to total calls to <code>get</code>, or 0 if there have been no calls */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public String toString() {
+        return String.format("%s: stripes=%s, size=%s, weight=%s", this.getClass(), stripes.length, getSize(), getWeight());
+    }
+
+    /**
+     * @param key Key to look up
+     * @return The stripe responsible for the key
+     */
+    private Cache<K, V> stripeFor(K key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+}
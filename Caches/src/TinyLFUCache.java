@@ -0,0 +1,235 @@
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A cache using the W-TinyLFU policy. New entries enter a small recency window and are only admitted into the main
+ * space when they are estimated to be used more often than the entry they would displace. The main space is split
+ * into a probation segment and a protected segment holding entries which have been accessed again since admission
+ * @param <K> A generic parameter representing the key used to look up a value
+ * @param <V> A generic parameter representing the data object stored in the cache
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class TinyLFUCache<K, V> extends Cache<K, V> {
+
+    /** Percentage of the capacity used by the window */
+    private static final int WINDOW_PERCENT = 1;
+    /** Percentage of the main space used by the protected segment */
+    private static final int PROTECTED_PERCENT = 80;
+
+    /**
+     * A count-min sketch estimating how often each key has been accessed. Counters are capped and periodically halved
+     * so the estimates favour recent history
+     */
+    private static class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final int MAX_COUNT = 15;
+        private static final int WIDTH_PER_ENTRY = 8;
+        private static final int MAX_WIDTH = 1 << 24;
+
+        private final int[] table;
+        private final int sampleSize;
+        private int additions;
+
+        public FrequencySketch(long capacity) {
+            int width = 16;
+            while (width < WIDTH_PER_ENTRY * capacity && width < MAX_WIDTH) { width <<= 1; }
+            table = new int[width];
+            sampleSize = (int) Math.min(10 * capacity, Integer.MAX_VALUE);
+            additions = 0;
+        }
+
+        /**
+         * @param key Key to look up
+         * @return The estimated number of recent accesses to the key
+         */
+        public int frequency(Object key) {
+            int hash = spread(key);
+            int count = MAX_COUNT;
+            for (long seed : SEEDS) { count = Math.min(count, table[index(hash, seed)]); }
+            return count;
+        }
+
+        /**
+         * Records an access to the key, halving every counter once enough accesses have been recorded
+         * @param key Key that was accessed
+         */
+        public void increment(Object key) {
+            int hash = spread(key);
+            boolean added = false;
+            for (long seed : SEEDS) {
+                int i = index(hash, seed);
+                if (table[i] < MAX_COUNT) {
+                    table[i]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) { table[i] >>>= 1; }
+                additions /= 2;
+            }
+        }
+
+        private int spread(Object key) {
+            int h = key == null ? 0 : key.hashCode();
+            h ^= h >>> 16;
+            h *= 0x45d9f3b;
+            return h ^ (h >>> 16);
+        }
+
+        private int index(int hash, long seed) {
+            long h = (hash + seed) * seed;
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+
+    }
+
+    /** A private inner-class recording the segment an entry belongs to */
+    private class SegmentEntry extends Entry {
+
+        private DoublyLinkedList<Entry> segment;
+
+        public SegmentEntry(K key, V value, int weight) {
+            super(key, value, weight);
+        }
+
+    }
+
+    private final DoublyLinkedList<Entry> window;
+    private final DoublyLinkedList<Entry> probation;
+    private final DoublyLinkedList<Entry> protect;
+    private final FrequencySketch sketch;
+
+    private final long windowCapacity;
+    private final long mainCapacity;
+    private final long protectedCapacity;
+    private long windowWeight;
+    private long protectedWeight;
+
+    public TinyLFUCache(long capacity) {
+        this(capacity, (k, v) -> 1);
+    }
+
+    public TinyLFUCache(long capacity, ToIntBiFunction<K, V> weigher) {
+        super(capacity, weigher);
+        window = new DoublyLinkedList<>();
+        probation = new DoublyLinkedList<>();
+        protect = new DoublyLinkedList<>();
+        sketch = new FrequencySketch(capacity);
+
+        windowCapacity = Math.max(1, capacity * WINDOW_PERCENT / 100);
+        mainCapacity = capacity - windowCapacity;
+        protectedCapacity = mainCapacity * PROTECTED_PERCENT / 100;
+        windowWeight = 0;
+        protectedWeight = 0;
+    }
+
+    @Override
+    protected void onMiss(K key) {
+        sketch.increment(key);
+    }
+
+    @Override
+    protected Entry newEntry(K key, V value, int weight) {
+        return new SegmentEntry(key, value, weight);
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> onInsert(Entry entry) {
+        sketch.increment(entry.key);
+        ((SegmentEntry) entry).segment = window;
+        windowWeight += entry.weight;
+        return window.insertNode(entry, LinkedList.Insert.HEAD);
+    }
+
+    @Override
+    protected void onAccess(LinkedList<Entry>.Node<Entry> node) {
+        SegmentEntry entry = (SegmentEntry) node.getValue();
+        sketch.increment(entry.key);
+
+        if (entry.segment == probation) {
+            // Promote the entry, demoting the least recently used protected entries if the segment is full
+            transfer(node, protect);
+            while (protectedWeight > protectedCapacity) {
+                transfer(protect.getTail(), probation);
+            }
+        } else {
+            entry.segment.moveNode(node, LinkedList.Insert.HEAD);
+        }
+    }
+
+    @Override
+    protected void onWeightChange(LinkedList<Entry>.Node<Entry> node, int delta) {
+        DoublyLinkedList<Entry> segment = ((SegmentEntry) node.getValue()).segment;
+        if (segment == window) { windowWeight += delta; }
+        if (segment == protect) { protectedWeight += delta; }
+    }
+
+    @Override
+    protected void onRemove(LinkedList<Entry>.Node<Entry> node) {
+        SegmentEntry entry = (SegmentEntry) node.getValue();
+        onWeightChange(node, -entry.weight);
+        entry.segment.deleteNode(node);
+    }
+
+    @Override
+    protected LinkedList<Entry>.Node<Entry> victim() {
+        if (!probation.isEmpty()) { return probation.getTail(); }
+        if (!protect.isEmpty()) { return protect.getTail(); }
+        return window.getTail();
+    }
+
+    @Override
+    protected void reserve(int w) {
+        // New entries always enter the window, and only compete for the main space once they leave it
+    }
+
+    @Override
+    protected void evict() {
+        while (windowWeight > windowCapacity) {
+            // Move the oldest window entry into probation as a candidate for admission
+            LinkedList<Entry>.Node<Entry> candidate = window.getTail();
+            transfer(candidate, probation);
+
+            while (weight - windowWeight > mainCapacity) {
+                LinkedList<Entry>.Node<Entry> victim = victim();
+                if (victim == candidate || !admit(candidate, victim)) {
+                    evictNode(candidate);
+                    break;
+                }
+                evictNode(victim);
+            }
+        }
+
+        // Weight changes to entries in the main space can still leave the cache over capacity
+        super.evict();
+    }
+
+    /**
+     * @param candidate Node of the entry leaving the window
+     * @param victim Node of the main space entry it would displace
+     * @return <code>True</code> if the candidate has been used more often than the victim
+     */
+    private boolean admit(LinkedList<Entry>.Node<Entry> candidate, LinkedList<Entry>.Node<Entry> victim) {
+        return sketch.frequency(candidate.getValue().key) > sketch.frequency(victim.getValue().key);
+    }
+
+    /**
+     * Moves a node to the head of another segment, keeping the segment weights up to date
+     * @param node Node to move
+     * @param segment Segment to move the node to
+     */
+    private void transfer(LinkedList<Entry>.Node<Entry> node, DoublyLinkedList<Entry> segment) {
+        SegmentEntry entry = (SegmentEntry) node.getValue();
+        onRemove(node);
+        entry.segment = segment;
+        onWeightChange(node, entry.weight);
+        segment.linkNode(node, LinkedList.Insert.HEAD);
+    }
+
+}
@@ -1,4 +1,8 @@
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * A generic bi-directional linked list of nodes of type <span><</span>T<span>></span>
@@ -63,6 +67,10 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
             }
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setNext(LinkedList<T>.Node<T> node) { setNext((Node<T>) node); }
+
         @Override
         protected void instantiate(T value) {
             setValue(value);
@@ -76,32 +84,203 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
 
     }
 
+    private Node<T> tail;
+    private boolean reversed;
+
+    // Last node reached by index and its physical position, used as a starting point for nearby lookups
+    private Node<T> finger;
+    private int fingerIndex;
+
     public DoublyLinkedList() {
         head = null;
+        tail = null;
+        reversed = false;
+        finger = null;
     }
 
+    /**
+     * Retrieves the first node in the linked list. If the list is currently in its reversed view, the nodes are
+     * relinked into their logical order first so that the returned node can be traversed with <code>getNext</code>
+     * @return Start of linked list
+     */
     @Override
-    protected void insertStart(T value) {
-        if (head == null) {
-            head = new Node<>(value);
+    public Node<T> getHead() {
+        normalize();
+        return (Node<T>) head;
+    }
+
+    /**
+     * Checks if the list is currently being viewed in reverse order
+     * @return <code>True</code> if traversal starts from the stored tail or <code>False</code> otherwise
+     */
+    public boolean isReversed() { return reversed; }
+
+    /**
+     * Retrieves the value stored at the position passed as a parameter
+     * @param index Position of the value, starting at 0
+     * @return Value at the <code>index</code> of the list
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public T get(int index) {
+        checkIndex(index, size - 1);
+        return nodeAt(toPhysical(index)).getValue();
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list at the position passed
+     * as a parameter, shifting the node at that position and any following nodes back by one
+     * @param index Position to insert the node at, starting at 0
+     * @param value Value to insert into linked list as a node
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public void insertAt(int index, T value) {
+        checkIndex(index, size);
+        if (index == size) {
+            insertEnd(value);
+            return;
+        }
+
+        Node<T> node = new Node<>(value);
+        Node<T> target = nodeAt(toPhysical(index));
+        if (reversed) { linkAfter(node, target); }
+        else { linkBefore(node, target); }
+
+        finger = node;
+        fingerIndex = toPhysical(index);
+    }
+
+    /**
+     * Removes the node at the position passed as a parameter
+     * @param index Position of the node to remove, starting at 0
+     * @return Value of the removed node
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public T removeAt(int index) {
+        checkIndex(index, size - 1);
+        int position = toPhysical(index);
+        Node<T> node = nodeAt(position);
+        Node<T> next = node.next;
+        unlink(node);
+
+        if (next != null) {
+            finger = next;
+            fingerIndex = position;
+        }
+        return node.getValue();
+    }
+
+    /**
+     * Splits the list at the position passed as a parameter. The nodes from <code>index</code> onwards are moved
+     * to a new list without being copied
+     * @param index Position of the first node to move, starting at 0
+     * @return A list containing the nodes from <code>index</code> to the end of the current list
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public DoublyLinkedList<T> split(int index) {
+        checkIndex(index, size);
+        DoublyLinkedList<T> list = new DoublyLinkedList<>();
+        if (index == size) { return list; }
+
+        if (reversed) {
+            // The logical end of the list is the physical start
+            Node<T> node = nodeAt(size - 1 - index);
+            list.head = head;
+            list.tail = node;
+            head = node.next;
+            if (head == null) { tail = null; }
+            else { ((Node<T>) head).prev = null; }
+            node.next = null;
         } else {
-            Node<T> node = (Node<T>) head;
-            head = new Node<>(value);
-            head.setNext(node);
+            Node<T> node = nodeAt(index);
+            list.head = node;
+            list.tail = tail;
+            tail = node.prev;
+            if (tail == null) { head = null; }
+            else { tail.next = null; }
+            node.prev = null;
         }
+        list.reversed = reversed;
+        list.size = size - index;
+        size = index;
+        finger = null;
+        return list;
+    }
+
+    @Override
+    protected void insertStart(T value) {
+        link(new Node<>(value), Insert.HEAD);
     }
 
     @Override
     protected void insertEnd(T value) {
-        if (head == null) {
-            head = new Node<>(value);
-        } else {
-            Node<T> node = (Node<T>) head;
-            while (node.next != null) {
-                node = node.next;
-            }
-            node.setNext(new Node<>(value));
-        }
+        link(new Node<>(value), Insert.END);
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list and returns it, so it
+     * can later be moved or removed in constant time without searching the list
+     * @param value Value to insert into linked list as a node
+     * @param pos Insertions strategy to use
+     * @return The inserted node
+     */
+    public Node<T> insertNode(T value, Insert pos) {
+        Node<T> node = new Node<>(value);
+        link(node, pos);
+        return node;
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list following the
+     * <code>target</code> node and returns it
+     * @param target Node of the current list to insert the node after
+     * @param value Value to insert into linked list as a node
+     * @return The inserted node
+     */
+    public Node<T> insertNodeAfter(LinkedList<T>.Node<T> target, T value) {
+        Node<T> node = new Node<>(value);
+        if (reversed) { linkBefore(node, (Node<T>) target); }
+        else { linkAfter(node, (Node<T>) target); }
+        return node;
+    }
+
+    /**
+     * Links a node previously removed from a list with {@link #deleteNode} into the current list, allowing a node to
+     * be moved between lists without allocating a new one
+     * @param node Unlinked node to insert
+     * @param pos Insertions strategy to use
+     */
+    public void linkNode(LinkedList<T>.Node<T> node, Insert pos) {
+        link((Node<T>) node, pos);
+    }
+
+    /**
+     * Removes a node of the current list in constant time
+     * @param node Node of the current list to remove
+     */
+    public void deleteNode(LinkedList<T>.Node<T> node) {
+        unlink((Node<T>) node);
+    }
+
+    /**
+     * Moves a node of the current list to the start or end of the list in constant time
+     * @param node Node of the current list to move
+     * @param pos Position to move the node to
+     */
+    public void moveNode(LinkedList<T>.Node<T> node, Insert pos) {
+        Node<T> n = (Node<T>) node;
+        if (n == (pos == Insert.HEAD ? first() : last())) { return; }
+        unlink(n);
+        link(n, pos);
+    }
+
+    /**
+     * Retrieves the last node in a linked list. If the list is currently in its reversed view, the nodes are
+     * relinked into their logical order first
+     * @return End of linked list
+     */
+    public Node<T> getTail() {
+        normalize();
+        return tail;
     }
 
     /**
@@ -116,14 +295,8 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
         Node<T> node = getNode(searchValue);
         if (node == null) { throw new NullPointerException("A node with the corresponding search value could not be found in list."); }
 
-        if (node.prev == null) {
-            head = new Node<>(value);
-            head.setNext(node);
-        } else {
-            Node<T> temp = node.prev;
-            node.setPrev(new Node<>(value));
-            node.prev.setPrev(temp);
-        }
+        if (reversed) { linkAfter(new Node<>(value), node); }
+        else { linkBefore(new Node<>(value), node); }
     }
 
     @Override
@@ -131,35 +304,25 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
         Node<T> node = getNode(searchValue);
         if (node == null) { throw new NullPointerException("A node with the corresponding search value could not be found in list."); }
 
-        if (node.next == null) {
-            node.setNext(new Node<>(value));
-        } else {
-            Node<T> temp = node.next;
-            node.setNext(new Node<>(value));
-            node.next.setNext(temp);
-        }
+        if (reversed) { linkBefore(new Node<>(value), node); }
+        else { linkAfter(new Node<>(value), node); }
     }
 
     @Override
     public void delete(T value) {
         Node<T> node = getNode(value);
         if (node == null) { return; }
-        if (node.prev == null) {
-            head = node.next;
-            ((Node<T>) head).prev = null;
-        } else {
-            node.prev.setNext(node.next);
-        }
+        unlink(node);
     }
 
     @Override
     public Node<T> getNode(T value) {
-        Node<T> node = (Node<T>) head;
+        Node<T> node = first();
         while (node != null) {
             if(value.equals(node.getValue())) {
                 return node;
             }
-            node = node.getNext();
+            node = following(node);
         }
         return null;
     }
@@ -167,37 +330,252 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
     @Override
     public void concatenate(LinkedList<T> list) {
         if (head == null) { return; }
-
-        Node<T> node = (Node<T>) head;
-        while (node.next != null) { node = node.next; }
+        normalize();
 
         if (list instanceof DoublyLinkedList) {
-            node.setNext((Node<T>) list.head);
+            DoublyLinkedList<T> other = (DoublyLinkedList<T>) list;
+            if (other.head == null) { return; }
+            other.normalize();
+            tail.setNext((Node<T>) other.head);
+            tail = other.tail;
+            size += other.size;
         } else {
-            LinkedList<T>.Node<T> n = list.head;
+            LinkedList<T>.Node<T> n = list.getHead();
             while (n != null) {
-                node.setNext(new Node<>(n.getValue()));
-                node = node.next;
+                linkLast(new Node<>(n.getValue()));
                 n = n.getNext();
             }
         }
     }
 
+    /** Reverses the order of nodes in a linked list in constant time by flipping the direction of traversal */
     @Override
     public void reverse() {
+        reversed = !reversed;
+    }
+
+    /**
+     * Returns an iterator over the values in the list from the last node to the first
+     * @return Iterator traversing the list in reverse order
+     */
+    public Iterator<T> descendingIterator() {
+        return new NodeIterator(last(), !reversed);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator(first(), reversed);
+    }
+
+    /** Physically relinks the nodes to match the current view so that <code>head</code> is the logical start */
+    private void normalize() {
+        if (!reversed) { return; }
+
         Node<T> node = (Node<T>) head;
-        Node<T> prev = null;
         while (node != null) {
             Node<T> newNode = node.next;
-            node.setNext(prev);
-            prev = node;
+            node.next = node.prev;
+            node.prev = newNode;
             node = newNode;
         }
-        head = prev;
+        Node<T> temp = (Node<T>) head;
+        head = tail;
+        tail = temp;
+        reversed = false;
+        fingerIndex = size - 1 - fingerIndex;
+    }
+
+    /** @return The logical first node of the list */
+    private Node<T> first() { return reversed ? tail : (Node<T>) head; }
+
+    /** @return The logical last node of the list */
+    private Node<T> last() { return reversed ? (Node<T>) head : tail; }
+
+    /**
+     * @param node Node to step from
+     * @return The node logically following <code>node</code> in the current view
+     */
+    private Node<T> following(Node<T> node) { return reversed ? node.prev : node.next; }
+
+    /**
+     * Links a node at the logical start or end of the list
+     * @param node Node to link
+     * @param pos Insertion strategy to use
+     */
+    private void link(Node<T> node, Insert pos) {
+        if ((pos == Insert.HEAD) != reversed) { linkFirst(node); }
+        else { linkLast(node); }
+    }
+
+    /**
+     * @param index Logical position in the list
+     * @return The physical position counted from <code>head</code>
+     */
+    private int toPhysical(int index) { return reversed ? size - 1 - index : index; }
+
+    /**
+     * @param index Position to check
+     * @param max Largest valid position
+     * @exception IndexOutOfBoundsException If the <code>index</code> is not between 0 and <code>max</code>
+     */
+    private void checkIndex(int index, int max) {
+        if (index < 0 || index > max) { throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for list of size %d", index, size)); }
+    }
+
+    /**
+     * Finds the node at a physical position by walking from whichever of <code>head</code>, <code>tail</code> or the
+     * last accessed node is closest, then caches the result for the next lookup
+     * @param index Physical position counted from <code>head</code>
+     * @return The node at the position
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> node = (Node<T>) head;
+        int position = 0;
+        if (size - 1 - index < index) {
+            node = tail;
+            position = size - 1;
+        }
+        if (finger != null && Math.abs(fingerIndex - index) < Math.abs(position - index)) {
+            node = finger;
+            position = fingerIndex;
+        }
+
+        while (position < index) {
+            node = node.next;
+            position++;
+        }
+        while (position > index) {
+            node = node.prev;
+            position--;
+        }
+
+        finger = node;
+        fingerIndex = index;
+        return node;
+    }
+
+    /**
+     * Links a node at the physical start of the list
+     * @param node Node to link
+     */
+    private void linkFirst(Node<T> node) {
+        if (head == null) {
+            head = node;
+            tail = node;
+        } else {
+            node.setNext((Node<T>) head);
+            head = node;
+        }
+        size++;
+        fingerIndex++;
+    }
+
+    /**
+     * Links a node at the physical end of the list
+     * @param node Node to link
+     */
+    private void linkLast(Node<T> node) {
+        if (tail == null) {
+            head = node;
+            tail = node;
+        } else {
+            tail.setNext(node);
+            tail = node;
+        }
+        size++;
+    }
+
+    /**
+     * Links a node physically preceding the <code>target</code> node
+     * @param node Node to link
+     * @param target Node already in the list
+     */
+    private void linkBefore(Node<T> node, Node<T> target) {
+        if (target.prev == null) {
+            linkFirst(node);
+        } else {
+            Node<T> temp = target.prev;
+            target.setPrev(node);
+            node.setPrev(temp);
+            size++;
+            finger = null;
+        }
+    }
+
+    /**
+     * Links a node physically following the <code>target</code> node
+     * @param node Node to link
+     * @param target Node already in the list
+     */
+    private void linkAfter(Node<T> node, Node<T> target) {
+        if (target.next == null) {
+            linkLast(node);
+        } else {
+            Node<T> temp = target.next;
+            target.setNext(node);
+            node.setNext(temp);
+            size++;
+            finger = null;
+        }
+    }
+
+    /**
+     * Removes a node from the list, updating <code>head</code> and <code>tail</code> where required
+     * @param node Node to remove
+     */
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.setLinks(null, null);
+        size--;
+        finger = null;
+    }
+
+    /** Recomputes the <code>tail</code> reference after the nodes have been relinked from <code>head</code> */
+    private void resetTail() {
+        Node<T> node = (Node<T>) head;
+        while (node != null && node.next != null) { node = node.next; }
+        tail = node;
+        finger = null;
+    }
+
+    /** Iterates over node values in either physical direction */
+    private class NodeIterator implements Iterator<T> {
+
+        private Node<T> node;
+        private final boolean backwards;
+
+        public NodeIterator(Node<T> start, boolean backwards) {
+            this.node = start;
+            this.backwards = backwards;
+        }
+
+        @Override
+        public boolean hasNext() { return node != null; }
+
+        @Override
+        public T next() {
+            if (node == null) { throw new NoSuchElementException("There are no more values in the list"); }
+            T value = node.getValue();
+            node = backwards ? node.prev : node.next;
+            return value;
+        }
+
     }
 
     @Override
     protected void sortAscending(Comparator<T> comparator) {
+        if (head == null) { return; }
+        normalize();
+
         Node<T> node = (Node<T>) head;
         Node<T> prev = node.prev;
         while (node != null) {
@@ -216,7 +594,7 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
             if (comparator.compare(min.getValue(), node.getValue()) < 0) {
                 node.setNext(min.next);
 
-                if (!node.getValue().equals(min.prev.getValue())) {
+                if (node != min.prev) {
                     node.setPrev(min.prev);
                     min.setNext(newNode);
                 } else {
@@ -236,10 +614,14 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
             prev = min;
             node = prev.next;
         }
+        resetTail();
     }
 
     @Override
     protected void sortDescending(Comparator<T> comparator) {
+        if (head == null) { return; }
+        normalize();
+
         Node<T> node = (Node<T>) head;
         Node<T> prev = node.prev;
         while (node != null) {
@@ -258,7 +640,7 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
             if (comparator.compare(max.getValue(), node.getValue()) > 0) {
                 node.setNext(max.next);
 
-                if (!node.getValue().equals(max.prev.getValue())) {
+                if (node != max.prev) {
                     node.setPrev(max.prev);
                     max.setNext(newNode);
                 } else {
@@ -278,15 +660,41 @@ public class DoublyLinkedList<T> extends LinkedList<T> {
             prev = max;
             node = prev.next;
         }
+        resetTail();
+    }
+
+    @Override
+    protected void relink(LinkedList<T>.Node<T> first, LinkedList<T>.Node<T> last) {
+        // Chaining the nodes through setNext has already linked each node back to its predecessor
+        ((Node<T>) first).prev = null;
+        head = first;
+        tail = (Node<T>) last;
+        finger = null;
+    }
+
+    @Override
+    protected void forEachNode(Consumer<LinkedList<T>.Node<T>> action) {
+        for (Node<T> node = first(); node != null; node = following(node)) { action.accept(node); }
+    }
+
+    @Override
+    protected void moveToFront(List<LinkedList<T>.Node<T>> nodes) {
+        normalize();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            Node<T> node = (Node<T>) nodes.get(i);
+            unlink(node);
+            linkFirst(node);
+        }
+        finger = null;
     }
 
     public String toString() {
         if (head == null) { return null; }
         String s = "";
-        Node<T> node = (Node<T>) head;
-        while (node.next != null) {
+        Node<T> node = first();
+        while (following(node) != null) {
             s += node + "<->";
-            node = node.next;
+            node = following(node);
         }
         s += node;
         return s;
@@ -0,0 +1,186 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A abstract publisher which streams the values of a data structure of type <span><</span>T<span>></span> to a single
+ * subscriber. Values are taken from the structure in batches no larger than the subscriber's outstanding demand, so
+ * at most one batch is held outside of the structure at a time. The structure may keep growing while it is drained,
+ * and the stream only completes once the publisher is closed and every value has been emitted
+ * @param <T> A generic parameter representing the data object emitted
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public abstract class DrainPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * A private inner-class tracking the demand of the subscriber. Signals are only sent from the drain loop, which
+     * a work-in-progress counter ensures is never run by more than one thread at a time. The counter starts held so
+     * the loop cannot run until <code>onSubscribe</code> has returned
+     */
+    private class Subscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested;
+        private final AtomicInteger wip;
+        private final AtomicReference<Throwable> error;
+        private volatile boolean cancelled;
+        private boolean done;
+
+        public Subscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.requested = new AtomicLong();
+            this.wip = new AtomicInteger(1);
+            this.error = new AtomicReference<>();
+            this.cancelled = false;
+            this.done = false;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reported by the drain loop so it cannot overlap onNext or follow onComplete
+                error.compareAndSet(null, new IllegalArgumentException("The number of values requested must be greater than 0"));
+                signal();
+                return;
+            }
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            signal();
+        }
+
+        @Override
+        public void cancel() { cancelled = true; }
+
+        /** Schedules the drain loop unless it is already running, in which case it will run again */
+        public void signal() {
+            if (wip.getAndIncrement() == 0) { executor.execute(this::drain); }
+        }
+
+        /** Releases the hold taken on construction, running the drain loop for any signals received meanwhile */
+        public void start() {
+            executor.execute(this::drain);
+        }
+
+        private void drain() {
+            List<T> batch = new ArrayList<>();
+            int missed = 1;
+            do {
+                while (!cancelled && !done && error.get() == null) {
+                    long r = requested.get();
+                    if (r == 0) { break; }
+
+                    batch.clear();
+                    int n = take(batch, (int) Math.min(r, batchSize));
+                    if (n == 0) { break; }
+
+                    // Values already taken are delivered even if cancelled part way through, so none are lost
+                    for (T value : batch) { subscriber.onNext(value); }
+                    if (r != Long.MAX_VALUE) { requested.addAndGet(-n); }
+                }
+
+                if (!cancelled && !done) {
+                    Throwable e = error.get();
+                    if (e != null) {
+                        done = true;
+                        subscriber.onError(e);
+                    } else if (closed && isDrained()) {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+    }
+
+    private final int batchSize;
+    private final Executor executor;
+    private final AtomicReference<Subscription> subscription;
+    private volatile boolean closed;
+
+    /**
+     * <code>DrainPublisher</code> Constructor which emits values on whichever thread requests or adds them
+     * @param batchSize Maximum number of values taken from the structure at once
+     */
+    public DrainPublisher(int batchSize) {
+        this(batchSize, Runnable::run);
+    }
+
+    /**
+     * <code>DrainPublisher</code> Constructor
+     * @param batchSize Maximum number of values taken from the structure at once
+     * @param executor Executor used to emit values to the subscriber
+     */
+    public DrainPublisher(int batchSize, Executor executor) {
+        if (batchSize <= 0) { throw new IllegalArgumentException("Batch size must be greater than 0"); }
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.subscription = new AtomicReference<>();
+        this.closed = false;
+    }
+
+    /**
+     * Subscribes to the publisher. Only one subscriber is supported, as values are removed as they are emitted
+     * @param subscriber Subscriber to receive the values
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) { throw new NullPointerException("Subscriber cannot be null"); }
+
+        Subscription s = new Subscription(subscriber);
+        if (!subscription.compareAndSet(null, s)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("The publisher already has a subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(s);
+        s.start();
+    }
+
+    /**
+     * Marks that no more values will be added, so the subscriber is completed once the remaining values are emitted
+     */
+    public void close() {
+        closed = true;
+        signal();
+    }
+
+    /**
+     * Checks if the publisher has been closed
+     * @return <code>True</code> if no more values can be added or <code>False</code> otherwise
+     */
+    public boolean isClosed() { return closed; }
+
+    /** Notifies the subscriber's drain loop that values have been added */
+    protected void signal() {
+        Subscription s = subscription.get();
+        if (s != null) { s.signal(); }
+    }
+
+    // Abstract Methods
+
+    /**
+     * Takes up to <code>max</code> values from the structure in the order they should be emitted
+     * @param batch List to add the values to
+     * @param max Maximum number of values to take
+     * @return Number of values taken
+     */
+    protected abstract int take(List<T> batch, int max);
+
+    /** @return <code>True</code> if there are no values left to emit */
+    protected abstract boolean isDrained();
+
+}
@@ -0,0 +1,58 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD search kernels for {@link IntArrayList} using the incubating Vector API. Each iteration compares as many
+ * values as fit in the processor's preferred vector register. The class must only be loaded when the
+ * <code>jdk.incubator.vector</code> module is present, so {@link IntArrayList} checks for the module before
+ * calling it
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class IntVectorSearch {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private IntVectorSearch() {}
+
+    /**
+     * @param a Array of values to search
+     * @param size Number of values in use at the start of the array
+     * @param value Value to search for
+     * @return The position of the first occurrence of the value or -1 if the array does not contain it
+     */
+    static int indexOf(int[] a, int size, int value) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, value);
+            if (matches.anyTrue()) { return i + matches.firstTrue(); }
+        }
+        for (; i < size; i++) {
+            if (a[i] == value) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * @param a Array of values to search
+     * @param size Number of values in use at the start of the array
+     * @param value Value to search for
+     * @return Number of occurrences of the value in the array
+     */
+    static int count(int[] a, int size, int value) {
+        int count = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, value).trueCount();
+        }
+        for (; i < size; i++) {
+            count += a[i] == value ? 1 : 0;
+        }
+        return count;
+    }
+
+}
@@ -1,5 +1,15 @@
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A abstract linked list of nodes of type <span><</span>T<span>></span>
@@ -9,9 +19,14 @@ import java.util.Comparator;
  * @version 1.0
  * @since 2022-05-23
  */
-public abstract class LinkedList<T> {
+public abstract class LinkedList<T> implements Iterable<T> {
+
+    /** Number of key bits consumed by each pass of the radix sort */
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
 
     protected Node<T> head;
+    protected int size;
 
     /**
      * A protected inner-class used to create linked nodes of the generic type <span><</span>T<span>></span>
@@ -67,7 +82,10 @@ public abstract class LinkedList<T> {
     /** Defines the sorting direction: {@link #ASC}, {@link #DESC} */
     public enum SortOrder { ASC, DESC }
 
-    public LinkedList() { head = null; }
+    public LinkedList() {
+        head = null;
+        size = 0;
+    }
 
     /**
      * Retrieves the first node in a linked list
@@ -75,6 +93,36 @@ public abstract class LinkedList<T> {
      */
     public Node<T> getHead() { return this.head; }
 
+    /**
+     * Checks if the linked list contains values
+     * @return <code>True</code> if the list is empty or <code>False</code> if the list contains values
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Retrieves the size of the linked list
+     * @return Number of nodes stored in the list
+     */
+    public int getSize() { return size; }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> node = getHead();
+
+            @Override
+            public boolean hasNext() { return node != null; }
+
+            @Override
+            public T next() {
+                if (node == null) { throw new NoSuchElementException("There are no more values in the list"); }
+                T value = node.getValue();
+                node = node.getNext();
+                return value;
+            }
+        };
+    }
+
     /**
      * Inserts a node with the <code>value</code> of type <code>T</code> at the end of the linked list
      * @param value Value to insert into linked list as a node
@@ -157,6 +205,134 @@ public abstract class LinkedList<T> {
         if (order == SortOrder.DESC) { sortDescending(comparator); }
     }
 
+    /**
+     * Retrieves the first <code>k</code> values the list would hold if it were sorted, without modifying the list
+     * @param k Number of values to retrieve
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to rank the values
+     * @return Up to <code>k</code> values in sorted order
+     * @exception IllegalArgumentException If <code>k</code> is negative
+     */
+    public List<T> topK(int k, Comparator<T> comparator, SortOrder order) {
+        List<T> values = new ArrayList<>();
+        for (Node<T> node : selectNodes(k, comparator, order)) { values.add(node.getValue()); }
+        return values;
+    }
+
+    /**
+     * Moves the first <code>k</code> nodes the list would hold if it were sorted to the start of the list in sorted
+     * order. The remaining nodes keep their relative order but are otherwise left unsorted
+     * @param k Number of nodes to sort
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to sort the nodes
+     * @exception IllegalArgumentException If <code>k</code> is negative
+     */
+    public void partialSort(int k, Comparator<T> comparator, SortOrder order) {
+        List<Node<T>> nodes = selectNodes(k, comparator, order);
+        if (!nodes.isEmpty()) { moveToFront(nodes); }
+    }
+
+    /**
+     * Finds the first <code>k</code> nodes in sorted order in a single pass using a heap bounded to <code>k</code>
+     * nodes, with the worst of the kept nodes at its root
+     * @param k Number of nodes to find
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to rank the nodes
+     * @return Up to <code>k</code> nodes in sorted order
+     */
+    private List<Node<T>> selectNodes(int k, Comparator<T> comparator, SortOrder order) {
+        if (k < 0) { throw new IllegalArgumentException("The number of values to select cannot be negative"); }
+
+        Comparator<T> rank = order == SortOrder.DESC ? comparator.reversed() : comparator;
+        PriorityQueue<Node<T>> heap = new PriorityQueue<>((a, b) -> rank.compare(b.getValue(), a.getValue()));
+        if (k > 0) {
+            forEachNode(node -> {
+                if (heap.size() < k) {
+                    heap.add(node);
+                } else if (rank.compare(node.getValue(), heap.peek().getValue()) < 0) {
+                    heap.poll();
+                    heap.add(node);
+                }
+            });
+        }
+
+        List<Node<T>> nodes = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) { nodes.add(heap.poll()); }
+        Collections.reverse(nodes);
+        return nodes;
+    }
+
+    /**
+     * Sorts a linked list on an <code>int</code> key using a stable radix sort which relinks the existing nodes
+     * @param key Function extracting the sort key from each value
+     * @param order Defines the order in which to sort the nodes
+     */
+    public void sortByIntKey(ToIntFunction<T> key, SortOrder order) {
+        sortByKey(v -> (key.applyAsInt(v) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL, Integer.SIZE, order);
+    }
+
+    /**
+     * Sorts a linked list on a <code>long</code> key using a stable radix sort which relinks the existing nodes
+     * @param key Function extracting the sort key from each value
+     * @param order Defines the order in which to sort the nodes
+     */
+    public void sortByLongKey(ToLongFunction<T> key, SortOrder order) {
+        sortByKey(v -> key.applyAsLong(v) ^ Long.MIN_VALUE, Long.SIZE, order);
+    }
+
+    /**
+     * Sorts the list on an unsigned key using a least-significant-digit radix sort. Each pass distributes the nodes
+     * into bucket chains by relinking their own <code>next</code> links, then joins the chains back together, so
+     * equal keys keep their original relative order and no storage proportional to the list is needed. The key is
+     * extracted again on each pass
+     * @param key Function extracting an unsigned sort key from each value
+     * @param bits Number of significant bits in each key
+     * @param order Defines the order in which to sort the nodes
+     */
+    private void sortByKey(ToLongFunction<T> key, int bits, SortOrder order) {
+        Node<T> first = getHead();
+        if (first == null) { return; }
+
+        @SuppressWarnings("unchecked")
+        Node<T>[] bucketHead = (Node<T>[]) new LinkedList<?>.Node<?>[RADIX_MASK + 1];
+        @SuppressWarnings("unchecked")
+        Node<T>[] bucketTail = (Node<T>[]) new LinkedList<?>.Node<?>[RADIX_MASK + 1];
+        Node<T> last = null;
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            // Distribute
+            Arrays.fill(bucketHead, null);
+            for (Node<T> node = first; node != null; ) {
+                Node<T> next = node.getNext();
+                int digit = (int) ((key.applyAsLong(node.getValue()) >>> shift) & RADIX_MASK);
+                if (bucketHead[digit] == null) { bucketHead[digit] = node; }
+                else { bucketTail[digit].setNext(node); }
+                bucketTail[digit] = node;
+                node = next;
+            }
+
+            // Collect
+            first = null;
+            last = null;
+            for (int b = 0; b <= RADIX_MASK; b++) {
+                int digit = order == SortOrder.DESC ? RADIX_MASK - b : b;
+                if (bucketHead[digit] == null) { continue; }
+                if (first == null) { first = bucketHead[digit]; }
+                else { last.setNext(bucketHead[digit]); }
+                last = bucketTail[digit];
+            }
+            last.setNext(null);
+        }
+        relink(first, last);
+    }
+
+    /**
+     * Visits every node in the list's logical order without modifying the list
+     * @param action Action to perform on each node
+     */
+    protected void forEachNode(Consumer<Node<T>> action) {
+        for (Node<T> node = head; node != null; node = node.getNext()) { action.accept(node); }
+    }
+
     // Abstract Methods
 
     /** Defines the insertion logic for the <code>Insert.HEAD</code> insertion strategy which
@@ -215,4 +391,18 @@ public abstract class LinkedList<T> {
      */
     protected abstract void sortDescending(Comparator<T> comparator);
 
+    /**
+     * Completes a relink of every node in the list, after the nodes have been chained through <code>setNext</code>
+     * @param first Node which now starts the list
+     * @param last Node which now ends the list, whose next link is already cleared
+     */
+    protected abstract void relink(Node<T> first, Node<T> last);
+
+    /**
+     * Relinks the nodes passed as a parameter to the start of the list in the order given, followed by the remaining
+     * nodes in their current order
+     * @param nodes Nodes of the current list to move
+     */
+    protected abstract void moveToFront(List<Node<T>> nodes);
+
 }
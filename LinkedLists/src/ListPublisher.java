@@ -0,0 +1,92 @@
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A publisher streaming the values of a linked list of type <span><</span>T<span>></span> from the head of the list.
+ * The list is locked while each batch is taken, so other threads adding to it should use {@link #insert} or
+ * synchronize on the list
+ * @param <T> A generic parameter representing the data object stored in each node
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ListPublisher<T> extends DrainPublisher<T> {
+
+    private final LinkedList<T> list;
+    private final boolean destructive;
+
+    // Last node emitted by a non-destructive drain
+    private LinkedList<T>.Node<T> last;
+
+    /**
+     * <code>ListPublisher</code> Constructor
+     * @param list The linked list to stream
+     * @param destructive <code>True</code> to delete each node as it is emitted, or <code>False</code> to leave the
+     *                    list unchanged. A non-destructive drain only supports nodes being added at the end of the list
+     * @param batchSize Maximum number of values taken from the list at once
+     */
+    public ListPublisher(LinkedList<T> list, boolean destructive, int batchSize) {
+        super(batchSize);
+        this.list = list;
+        this.destructive = destructive;
+        this.last = null;
+    }
+
+    /**
+     * <code>ListPublisher</code> Constructor
+     * @param list The linked list to stream
+     * @param destructive <code>True</code> to delete each node as it is emitted, or <code>False</code> to leave the
+     *                    list unchanged. A non-destructive drain only supports nodes being added at the end of the list
+     * @param batchSize Maximum number of values taken from the list at once
+     * @param executor Executor used to emit values to the subscriber
+     */
+    public ListPublisher(LinkedList<T> list, boolean destructive, int batchSize, Executor executor) {
+        super(batchSize, executor);
+        this.list = list;
+        this.destructive = destructive;
+        this.last = null;
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> at the end of the linked list
+     * @param value Value to insert into linked list as a node
+     * @exception IllegalStateException If the publisher has been closed
+     */
+    public void insert(T value) {
+        synchronized (list) {
+            if (isClosed()) { throw new IllegalStateException("Values cannot be added once the publisher is closed"); }
+            list.insert(value);
+        }
+        signal();
+    }
+
+    @Override
+    protected int take(List<T> batch, int max) {
+        synchronized (list) {
+            int n = 0;
+            while (n < max) {
+                LinkedList<T>.Node<T> node = next();
+                if (node == null) { break; }
+
+                batch.add(node.getValue());
+                if (destructive) { list.delete(node.getValue()); }
+                else { last = node; }
+                n++;
+            }
+            return n;
+        }
+    }
+
+    @Override
+    protected boolean isDrained() {
+        synchronized (list) { return next() == null; }
+    }
+
+    /** @return The next node to emit or <code>NULL</code> if the end of the list has been reached */
+    private LinkedList<T>.Node<T> next() {
+        if (destructive || last == null) { return list.getHead(); }
+        return last.getNext();
+    }
+
+}
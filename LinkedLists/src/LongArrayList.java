@@ -0,0 +1,208 @@
+import java.util.Arrays;
+
+/**
+ * A list of primitive <code>long</code> values stored in a growable array, offering the search and update operations
+ * of {@link LinkedList} without boxing each value into a node. When the <code>jdk.incubator.vector</code> module
+ * is loaded, searches compare a whole SIMD register of values at a time through {@link LongVectorSearch}. Otherwise
+ * they compare a block of values per iteration without branching on each one, which lets the processor overlap the
+ * comparisons
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class LongArrayList {
+
+    /** Number of values compared per iteration of a scalar search */
+    private static final int BLOCK = 8;
+
+    /** Whether searches use the Vector API, which is only loaded when its module is present */
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private long[] values;
+    private int size;
+
+    /** <code>LongArrayList</code> Constructor */
+    public LongArrayList() {
+        this(16);
+    }
+
+    /**
+     * <code>LongArrayList</code> Constructor
+     * @param capacity Number of values that can be stored before the array grows
+     */
+    public LongArrayList(int capacity) {
+        values = new long[Math.max(1, capacity)];
+        size = 0;
+    }
+
+    /**
+     * Retrieves the size of the list
+     * @return Number of values stored in the list
+     */
+    public int getSize() { return size; }
+
+    /**
+     * Checks if the list contains values
+     * @return <code>True</code> if the list is empty or <code>False</code> if the list contains values
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Retrieves the value stored at the position passed as a parameter
+     * @param index Position of the value, starting at 0
+     * @return Value at the <code>index</code> of the list
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for list of size %d", index, size)); }
+        return values[index];
+    }
+
+    /**
+     * Inserts the <code>value</code> at the end of the list
+     * @param value Value to insert into the list
+     */
+    public void insert(long value) {
+        insert(value, LinkedList.Insert.END);
+    }
+
+    /**
+     * Inserts the <code>value</code> into the list
+     * @param value Value to insert into the list
+     * @param pos Insertions strategy to use
+     */
+    public void insert(long value, LinkedList.Insert pos) {
+        insertAt(pos == LinkedList.Insert.HEAD ? 0 : size, value);
+    }
+
+    /**
+     * Inserts an array of values using the default <code>Insert.END</code> insertion strategy
+     * @param values Array of values to insert
+     */
+    public void insert(long[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, this.values, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Inserts the <code>value</code> into the list following the first occurrence of <code>searchValue</code>
+     * @param value Value to insert into the list
+     * @param searchValue Value to insert the value after
+     * @exception NullPointerException If the <code>searchValue</code> passed as a parameter cannot be found, a null
+     * exception will be thrown
+     */
+    public void insertAfter(long value, long searchValue) {
+        int index = indexOf(searchValue);
+        if (index == -1) { throw new NullPointerException("The search value could not be found in list."); }
+        insertAt(index + 1, value);
+    }
+
+    /**
+     * Deletes the first occurrence of the <code>value</code> passed as a parameter
+     * @param value Value to remove from the list
+     */
+    public void delete(long value) {
+        int index = indexOf(value);
+        if (index == -1) { return; }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * @param value Value to search for within the list
+     * @return <code>True</code> if the list contains the value or <code>False</code> otherwise
+     */
+    public boolean contains(long value) { return indexOf(value) != -1; }
+
+    /**
+     * @param value Value to search for within the list
+     * @return The position of the first occurrence of the value or -1 if the list does not contain it
+     */
+    public int indexOf(long value) {
+        if (VECTORIZED) { return LongVectorSearch.indexOf(values, size, value); }
+
+        long[] a = values;
+        int i = 0;
+        for (int end = size - BLOCK; i <= end; i += BLOCK) {
+            // Non short-circuiting comparisons of a whole block, only branching once per block
+            if ((a[i] == value) | (a[i+1] == value) | (a[i+2] == value) | (a[i+3] == value)
+                    | (a[i+4] == value) | (a[i+5] == value) | (a[i+6] == value) | (a[i+7] == value)) {
+                break;
+            }
+        }
+        for (; i < size; i++) {
+            if (a[i] == value) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value Value to search for within the list
+     * @return Number of occurrences of the value in the list
+     */
+    public int count(long value) {
+        if (VECTORIZED) { return LongVectorSearch.count(values, size, value); }
+
+        long[] a = values;
+        int count = 0;
+        int i = 0;
+        for (int end = size - BLOCK; i <= end; i += BLOCK) {
+            count += (a[i] == value ? 1 : 0) + (a[i+1] == value ? 1 : 0) + (a[i+2] == value ? 1 : 0)
+                    + (a[i+3] == value ? 1 : 0) + (a[i+4] == value ? 1 : 0) + (a[i+5] == value ? 1 : 0)
+                    + (a[i+6] == value ? 1 : 0) + (a[i+7] == value ? 1 : 0);
+        }
+        for (; i < size; i++) {
+            count += a[i] == value ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Checks if searches are using the Vector API
+     * @return <code>True</code> if the <code>jdk.incubator.vector</code> module is loaded or <code>False</code> if
+     * the scalar search is used
+     */
+    public static boolean isVectorized() { return VECTORIZED; }
+
+    /**
+     * Copies the values of the list
+     * @return An array holding the values in order
+     */
+    public long[] toArray() { return Arrays.copyOf(values, size); }
+
+    public String toString() {
+        if (size == 0) { return null; }
+
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) { s.append("->"); }
+            s.append('[').append(values[i]).append(']');
+        }
+        return s.toString();
+    }
+
+    /**
+     * Inserts a value at a position, shifting the following values back by one
+     * @param index Position to insert the value at
+     * @param value Value to insert
+     */
+    private void insertAt(int index, long value) {
+        ensureCapacity(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Grows the array so it can hold at least <code>capacity</code> values
+     * @param capacity Number of values to hold
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+
+}
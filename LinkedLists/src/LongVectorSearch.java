@@ -0,0 +1,58 @@
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD search kernels for {@link LongArrayList} using the incubating Vector API. Each iteration compares as many
+ * values as fit in the processor's preferred vector register. The class must only be loaded when the
+ * <code>jdk.incubator.vector</code> module is present, so {@link LongArrayList} checks for the module before
+ * calling it
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class LongVectorSearch {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private LongVectorSearch() {}
+
+    /**
+     * @param a Array of values to search
+     * @param size Number of values in use at the start of the array
+     * @param value Value to search for
+     * @return The position of the first occurrence of the value or -1 if the array does not contain it
+     */
+    static int indexOf(long[] a, int size, long value) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, value);
+            if (matches.anyTrue()) { return i + matches.firstTrue(); }
+        }
+        for (; i < size; i++) {
+            if (a[i] == value) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * @param a Array of values to search
+     * @param size Number of values in use at the start of the array
+     * @param value Value to search for
+     * @return Number of occurrences of the value in the array
+     */
+    static int count(long[] a, int size, long value) {
+        int count = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            count += LongVector.fromArray(SPECIES, a, i).compare(VectorOperators.EQ, value).trueCount();
+        }
+        for (; i < size; i++) {
+            count += a[i] == value ? 1 : 0;
+        }
+        return count;
+    }
+
+}
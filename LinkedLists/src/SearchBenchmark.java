@@ -0,0 +1,95 @@
+import java.util.function.LongSupplier;
+
+/**
+ * A small benchmark harness comparing the searches of {@link IntArrayList} and {@link LongArrayList} against
+ * {@link SinglyLinkedList#getNode}. Each benchmark is warmed up before being timed over several fixed length
+ * iterations, and every result is folded into a checksum so the searches cannot be optimised away. Run it with
+ * <code>--add-modules jdk.incubator.vector</code> to measure the vectorized search, or without to measure the scalar
+ * fallback
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class SearchBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+    private static final long ITERATION_NANOS = 200_000_000L;
+
+    private static long checksum = 0;
+
+    /**
+     * Fills each list with the same values and times a search for a value which is not present, so every search
+     * scans the whole list
+     * @param args Optional number of values in each list
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        IntArrayList ints = new IntArrayList(size);
+        LongArrayList longs = new LongArrayList(size);
+        SinglyLinkedList<Integer> boxedInts = new SinglyLinkedList<>();
+        SinglyLinkedList<Long> boxedLongs = new SinglyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            ints.insert(i);
+            longs.insert(i);
+        }
+        // Inserting at the end of a singly linked list walks the whole list, so build the linked lists from the back
+        for (int i = size - 1; i >= 0; i--) {
+            boxedInts.insert(i, LinkedList.Insert.HEAD);
+            boxedLongs.insert((long) i, LinkedList.Insert.HEAD);
+        }
+        int absent = -1;
+
+        System.out.printf("size=%d, search=%s%n", size, IntArrayList.isVectorized() ? "vector" : "scalar");
+        System.out.printf("%-36s %14s %12s%n", "Benchmark", "ns/op", "Error");
+        run("IntArrayList.indexOf", () -> ints.indexOf(absent));
+        run("IntArrayList.count", () -> ints.count(absent));
+        run("LongArrayList.indexOf", () -> longs.indexOf(absent));
+        run("LongArrayList.count", () -> longs.count(absent));
+        run("SinglyLinkedList<Integer>.getNode", () -> boxedInts.getNode(absent) == null ? 0 : 1);
+        run("SinglyLinkedList<Long>.getNode", () -> boxedLongs.getNode((long) absent) == null ? 0 : 1);
+        System.out.printf("checksum %x%n", checksum);
+    }
+
+    /**
+     * Warms up and times a benchmark, printing the mean time per operation and its standard deviation across the
+     * measured iterations
+     * @param name Name of the benchmark
+     * @param operation Operation to time, returning a result to fold into the checksum
+     */
+    private static void run(String name, LongSupplier operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) { iteration(operation); }
+
+        double[] times = new double[MEASURED_ITERATIONS];
+        double mean = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            times[i] = iteration(operation);
+            mean += times[i] / MEASURED_ITERATIONS;
+        }
+        double variance = 0;
+        for (double t : times) { variance += (t - mean) * (t - mean) / (MEASURED_ITERATIONS - 1); }
+        System.out.printf("%-36s %14.1f %12.1f%n", name, mean, Math.sqrt(variance));
+    }
+
+    /**
+     * Repeats an operation for a fixed length of time
+     * @param operation Operation to repeat
+     * @return The mean time of each operation in nanoseconds
+     */
+    private static double iteration(LongSupplier operation) {
+        long ops = 0;
+        long result = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            result += operation.getAsLong();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS);
+        checksum += result;
+        return (double) elapsed / ops;
+    }
+
+}
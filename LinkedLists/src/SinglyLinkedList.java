@@ -1,5 +1,9 @@
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * A generic uni-directional linked list of nodes of type <span><</span>T<span>></span>
@@ -24,9 +28,13 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
          * @param node Target node to link
          */
         public void setNext(Node<T> node) {
-            next = null;
+            next = node;
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setNext(LinkedList<T>.Node<T> node) { setNext((Node<T>) node); }
+
         @Override
         public Node<T> getNext() { return this.next; }
 
@@ -49,9 +57,10 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
             head = new Node<>(value);
         } else {
             Node<T> node = new Node<>(value);
-            node.setNext(head);
+            node.setNext((Node<T>) head);
             head = node;
         }
+        size++;
     }
 
     @Override
@@ -65,6 +74,7 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
             }
             node.setNext(new Node<>(value));
         }
+        size++;
     }
 
     @Override
@@ -79,18 +89,22 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
             node.setNext(new Node<>(value));
             node.next.setNext(temp);
         }
+        size++;
     }
 
     @Override
     public void delete(T value) {
+        if (head == null) { return; }
         if (value.equals(head.getValue())) {
-            head = head.next;
+            head = head.getNext();
+            size--;
             return;
         }
         Node<T> node = (Node<T>) head;
         while (node.next != null) {
             if (value.equals(node.next.getValue())) {
                 node.next = node.next.next;
+                size--;
                 return;
             }
             node = node.next;
@@ -118,12 +132,14 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
 
         if (list instanceof SinglyLinkedList) {
             node.setNext((Node<T>) list.head);
+            size += list.size;
         } else {
-            LinkedList<T>.Node<T> n = list.head;
+            LinkedList<T>.Node<T> n = list.getHead();
             while (n != null) {
                 node.setNext(new Node<>(n.getValue()));
                 node = node.next;
                 n = n.getNext();
+                size++;
             }
         }
     }
@@ -225,6 +241,38 @@ public class SinglyLinkedList<T> extends LinkedList<T> {
         }
     }
 
+    @Override
+    protected void relink(LinkedList<T>.Node<T> first, LinkedList<T>.Node<T> last) {
+        head = first;
+    }
+
+    @Override
+    protected void moveToFront(List<LinkedList<T>.Node<T>> nodes) {
+        Set<LinkedList<T>.Node<T>> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        selected.addAll(nodes);
+
+        // Unlink the selected nodes, keeping the rest in order
+        Node<T> rest = null;
+        Node<T> restTail = null;
+        for (Node<T> node = (Node<T>) head; node != null; node = node.next) {
+            if (selected.contains(node)) { continue; }
+            if (restTail == null) { rest = node; }
+            else { restTail.next = node; }
+            restTail = node;
+        }
+        if (restTail != null) { restTail.next = null; }
+
+        // Relink
+        Node<T> prev = null;
+        for (LinkedList<T>.Node<T> n : nodes) {
+            Node<T> node = (Node<T>) n;
+            if (prev == null) { head = node; }
+            else { prev.next = node; }
+            prev = node;
+        }
+        prev.next = rest;
+    }
+
     @Override
     public String toString() {
         if (head == null) { return null; }
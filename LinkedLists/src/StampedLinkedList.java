@@ -0,0 +1,431 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe wrapper around a linked list of nodes of type <span><</span>T<span>></span>. Operations that modify
+ * the list hold the write lock, while read operations first run without locking and are only repeated under the
+ * read lock if a write happened while they were running. Methods returning nodes are not wrapped, as the nodes could
+ * then be read without holding the lock, and operations only a {@link DoublyLinkedList} provides throw an
+ * <code>UnsupportedOperationException</code> when another type of list is guarded
+ * @param <T> A generic parameter representing the data object stored in each node
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class StampedLinkedList<T> implements Iterable<T> {
+
+    /** Number of nodes visited by an optimistic read between checks for a concurrent write */
+    private static final int VALIDATE_INTERVAL = 64;
+
+    private final LinkedList<T> list;
+    private final StampedLock lock;
+
+    /**
+     * <code>StampedLinkedList</code> Constructor. The list passed should no longer be accessed directly, as every
+     * operation it offers which does not return a node is available through the wrapper
+     * @param list The linked list to guard
+     */
+    public StampedLinkedList(LinkedList<T> list) {
+        this.list = list;
+        this.lock = new StampedLock();
+    }
+
+    // Write Operations
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> at the end of the linked list
+     * @param value Value to insert into linked list as a node
+     */
+    public void insert(T value) {
+        long stamp = lock.writeLock();
+        try { list.insert(value); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list
+     * @param value Value to insert into linked list as a node
+     * @param pos Insertions strategy to use
+     */
+    public void insert(T value, LinkedList.Insert pos) {
+        long stamp = lock.writeLock();
+        try { list.insert(value, pos); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /** Inserts a collection of values using the default <code>Insert.END</code> insertion strategy
+     * @param values Collection of values to insert
+     * */
+    public void insert(Collection<T> values) {
+        long stamp = lock.writeLock();
+        try { list.insert(values); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /** Inserts a collection of values
+     * @param values Collection of values to insert
+     * @param pos Insertion strategy to use
+     * */
+    public void insert(Collection<T> values, LinkedList.Insert pos) {
+        long stamp = lock.writeLock();
+        try { list.insert(values, pos); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /** Inserts an array of values using the default <code>Insert.END</code> insertion strategy
+     * @param values Array of values to insert
+     * */
+    public void insert(T[] values) {
+        long stamp = lock.writeLock();
+        try { list.insert(values); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /** Inserts an array of values
+     * @param values Array of values to insert
+     * @param pos Insertion strategy to use
+     * */
+    public void insert(T[] values, LinkedList.Insert pos) {
+        long stamp = lock.writeLock();
+        try { list.insert(values, pos); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list at the position passed
+     * as a parameter, shifting the node at that position and any following nodes back by one
+     * @param index Position to insert the node at, starting at 0
+     * @param value Value to insert into linked list as a node
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    public void insertAt(int index, T value) {
+        DoublyLinkedList<T> doubly = doubly();
+        long stamp = lock.writeLock();
+        try { doubly.insertAt(index, value); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list before the
+     * node with the matching <code>searchValue</code>
+     * @param value Value to insert into linked list as a node
+     * @param searchValue Value to insert the node before
+     * @exception NullPointerException If a node matching the <code>searchValue</code> passed as a parameter
+     * cannot be found, a null exception will be thrown
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    public void insertBefore(T value, T searchValue) {
+        DoublyLinkedList<T> doubly = doubly();
+        long stamp = lock.writeLock();
+        try { doubly.insertBefore(value, searchValue); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Inserts a node with the <code>value</code> of type <code>T</code> into the linked list following the
+     * node with the matching <code>searchValue</code>
+     * @param value Value to insert into linked list as a node
+     * @param searchValue Value to insert the node after
+     * @exception NullPointerException If a node matching the <code>searchValue</code> passed as a parameter
+     * cannot be found, a null exception will be thrown
+     */
+    public void insertAfter(T value, T searchValue) {
+        long stamp = lock.writeLock();
+        try { list.insertAfter(value, searchValue); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Deletes the first node in a linked list matching the <code>value</code> passed as a parameter
+     * @param value Node value to remove from linked list
+     */
+    public void delete(T value) {
+        long stamp = lock.writeLock();
+        try { list.delete(value); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Deletes the first node in a linked list matching each <code>value</code> contained in the collection
+     * @param values Node values to remove from linked list
+     */
+    public void delete(Collection<T> values) {
+        long stamp = lock.writeLock();
+        try { list.delete(values); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Deletes the first node in a linked list matching each <code>value</code> contained in the array
+     * @param values Node values to remove from linked list
+     */
+    public void delete(T[] values) {
+        long stamp = lock.writeLock();
+        try { list.delete(values); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Removes the node at the position passed as a parameter
+     * @param index Position of the node to remove, starting at 0
+     * @return Value of the removed node
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    public T removeAt(int index) {
+        DoublyLinkedList<T> doubly = doubly();
+        long stamp = lock.writeLock();
+        try { return doubly.removeAt(index); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Splits the list at the position passed as a parameter, keeping the nodes before it in the guarded list
+     * @param index Position of the first node to move into the new list, starting at 0
+     * @return A new guarded list holding the nodes from <code>index</code> to the end of the list
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    public StampedLinkedList<T> split(int index) {
+        DoublyLinkedList<T> doubly = doubly();
+        long stamp = lock.writeLock();
+        try { return new StampedLinkedList<>(doubly.split(index)); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Appends the <code>list</code> passed as a parameter to the guarded list
+     * @param other The list to append to the end of the guarded list
+     */
+    public void concatenate(LinkedList<T> other) {
+        long stamp = lock.writeLock();
+        try { list.concatenate(other); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /** Reverses the order of nodes in a linked list */
+    public void reverse() {
+        long stamp = lock.writeLock();
+        try { list.reverse(); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Sorts a linked list using the methods defined in the arguments
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to sort the nodes
+     */
+    public void sort(Comparator<T> comparator, LinkedList.SortOrder order) {
+        long stamp = lock.writeLock();
+        try { list.sort(comparator, order); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Sorts a linked list on an <code>int</code> key using a stable radix sort which relinks the existing nodes
+     * @param key Function extracting the sort key from each value
+     * @param order Defines the order in which to sort the nodes
+     */
+    public void sortByIntKey(ToIntFunction<T> key, LinkedList.SortOrder order) {
+        long stamp = lock.writeLock();
+        try { list.sortByIntKey(key, order); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Sorts a linked list on a <code>long</code> key using a stable radix sort which relinks the existing nodes
+     * @param key Function extracting the sort key from each value
+     * @param order Defines the order in which to sort the nodes
+     */
+    public void sortByLongKey(ToLongFunction<T> key, LinkedList.SortOrder order) {
+        long stamp = lock.writeLock();
+        try { list.sortByLongKey(key, order); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    /**
+     * Moves the first <code>k</code> nodes the list would hold if it were sorted to the start of the list in sorted
+     * order. The remaining nodes keep their relative order but are otherwise left unsorted
+     * @param k Number of nodes to sort
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to sort the nodes
+     * @exception IllegalArgumentException If <code>k</code> is negative
+     */
+    public void partialSort(int k, Comparator<T> comparator, LinkedList.SortOrder order) {
+        long stamp = lock.writeLock();
+        try { list.partialSort(k, comparator, order); }
+        finally { lock.unlockWrite(stamp); }
+    }
+
+    // Read Operations
+
+    /**
+     * Checks if the list contains a node matching the <code>value</code> passed as a parameter. Nodes are not
+     * returned directly as they could then be read without holding the lock
+     * @param value Node value to search for within linked list
+     * @return <code>True</code> if a matching node was found or <code>False</code> otherwise
+     */
+    public boolean contains(T value) {
+        return read(stamp -> {
+            int steps = 0;
+            for (T v : list) {
+                if (value.equals(v)) { return true; }
+                if (++steps % VALIDATE_INTERVAL == 0 && !valid(stamp)) { return null; }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Retrieves the size of the linked list
+     * @return Number of nodes stored in the list
+     */
+    public int getSize() { return read(stamp -> list.getSize()); }
+
+    /**
+     * Checks if the linked list contains values
+     * @return <code>True</code> if the list is empty or <code>False</code> if the list contains values
+     */
+    public boolean isEmpty() { return getSize() == 0; }
+
+    /**
+     * Retrieves the value stored at the position passed as a parameter. The position is found by traversing the list
+     * rather than through the finger search of a <code>DoublyLinkedList</code>, which updates the list and so could
+     * not run alongside other readers
+     * @param index Position of the value, starting at 0
+     * @return Value at the <code>index</code> of the list
+     * @exception IndexOutOfBoundsException If the <code>index</code> is outside the list
+     */
+    public T get(int index) {
+        // An out of bounds index seen optimistically is checked again under the read lock before it is thrown
+        return read(stamp -> {
+            int size = list.getSize();
+            if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for list of size %d", index, size)); }
+
+            int steps = 0;
+            for (T v : list) {
+                if (steps == index) { return v; }
+                if (++steps % VALIDATE_INTERVAL == 0 && !valid(stamp)) { return null; }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves the first <code>k</code> values the list would hold if it were sorted, without modifying the list.
+     * The whole list is visited, so this holds the read lock rather than risk repeating the traversal
+     * @param k Number of values to retrieve
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @param order Defines the order in which to rank the values
+     * @return Up to <code>k</code> values in sorted order
+     * @exception IllegalArgumentException If <code>k</code> is negative
+     */
+    public List<T> topK(int k, Comparator<T> comparator, LinkedList.SortOrder order) {
+        long stamp = lock.readLock();
+        try { return list.topK(k, comparator, order); }
+        finally { lock.unlockRead(stamp); }
+    }
+
+    /**
+     * Checks if the list is currently being viewed in reverse order
+     * @return <code>True</code> if traversal starts from the stored tail or <code>False</code> otherwise
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    public boolean isReversed() {
+        DoublyLinkedList<T> doubly = doubly();
+        return read(stamp -> doubly.isReversed());
+    }
+
+    /**
+     * Copies the values of the list in order
+     * @return A snapshot of the values stored in the list
+     */
+    public List<T> toList() { return read(this::snapshot); }
+
+    /**
+     * Returns an iterator over a snapshot of the list, so later modifications are not reflected
+     * @return Iterator over the values stored in the list when it was called
+     */
+    @Override
+    public Iterator<T> iterator() { return toList().iterator(); }
+
+    @Override
+    public String toString() {
+        List<T> values = toList();
+        if (values.isEmpty()) { return null; }
+
+        String link = list instanceof DoublyLinkedList ? "<->" : "->";
+        String s = "";
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) { s += link; }
+            s += String.format("[%s]", values.get(i));
+        }
+        return s;
+    }
+
+    /**
+     * Copies the values of the list, giving up early if a write is detected
+     * @param stamp Optimistic read stamp, or <code>0</code> if the read lock is held
+     * @return The values in order or <code>NULL</code> if a concurrent write was detected
+     */
+    private List<T> snapshot(long stamp) {
+        List<T> values = new ArrayList<>();
+        for (T v : list) {
+            values.add(v);
+            if (values.size() % VALIDATE_INTERVAL == 0 && !valid(stamp)) { return null; }
+        }
+        return values;
+    }
+
+    /**
+     * @return The guarded list as a <code>DoublyLinkedList</code>
+     * @exception UnsupportedOperationException If the guarded list is not a <code>DoublyLinkedList</code>
+     */
+    private DoublyLinkedList<T> doubly() {
+        if (!(list instanceof DoublyLinkedList)) { throw new UnsupportedOperationException("Operation requires a DoublyLinkedList"); }
+        return (DoublyLinkedList<T>) list;
+    }
+
+    /**
+     * @param stamp Optimistic read stamp, or <code>0</code> if the read lock is held
+     * @return <code>True</code> if no write has happened since the stamp was issued
+     */
+    private boolean valid(long stamp) {
+        return stamp == 0L || lock.validate(stamp);
+    }
+
+    /**
+     * Runs a read operation optimistically, repeating it under the read lock if a write happened while it ran. A
+     * write may leave the nodes in an inconsistent state for the optimistic reader, so any exception it throws is
+     * treated the same as a failed validation, and long traversals check the stamp as they go to avoid looping on
+     * a partially relinked list
+     * @param reader Read operation taking the stamp to validate against and returning <code>NULL</code> if it
+     *               detected a write
+     * @return The result of the read operation
+     */
+    private <R> R read(LongFunction<R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = reader.apply(stamp);
+                if (result != null && lock.validate(stamp)) { return result; }
+            } catch (RuntimeException e) {
+                // Inconsistent state seen during a write, fall back to the read lock
+            }
+        }
+
+        stamp = lock.readLock();
+        try { return reader.apply(0L); }
+        finally { lock.unlockRead(stamp); }
+    }
+
+}
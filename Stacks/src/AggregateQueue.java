@@ -0,0 +1,101 @@
+import java.util.function.BinaryOperator;
+
+/**
+ * A first-in first-out queue of values of type <span><</span>T<span>></span> built from two {@link AggregateStack}s,
+ * which can read the aggregate of every queued value in constant time. Values are pushed onto an inbound stack and
+ * moved onto an outbound stack in reverse order when the front of the queue is needed, so each value is moved at most
+ * once. This makes it suitable for sliding window aggregates such as a running minimum
+ * @param <T> A generic parameter representing the data object stored in the queue
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class AggregateQueue<T> {
+
+    private final AggregateStack<T> inbound;
+    private final AggregateStack<T> outbound;
+    private final BinaryOperator<T> combiner;
+    private final int capacity;
+
+    /**
+     * <code>AggregateQueue</code> Constructor
+     * @param size Maximum number of values that can be stored in the queue
+     * @param combiner Associative function combining two values, applied from the front of the queue to the back
+     */
+    public AggregateQueue(int size, BinaryOperator<T> combiner) {
+        this.inbound = new AggregateStack<>(size, combiner);
+        // The outbound stack holds the front of the queue at its top, so it combines each value on the left
+        this.outbound = new AggregateStack<>(size, (a, b) -> combiner.apply(b, a));
+        this.combiner = combiner;
+        this.capacity = size;
+    }
+
+    /**
+     * Checks if the queue contains values
+     * @return <code>True</code> if the queue is empty or <code>False</code> if the queue contains values
+     */
+    public boolean isEmpty() { return getSize() == 0; }
+
+    /**
+     * Retrieves the size of the queue
+     * @return Number of values stored in queue
+     */
+    public int getSize() { return inbound.getSize() + outbound.getSize(); }
+
+    /**
+     * Number of values that can be stored in the queue
+     * @return The total available capacity of the queue
+     */
+    public int getCapacity() { return capacity; }
+
+    public String toString() {
+        return String.format("%s: size=%s, capacity=%s", this.getClass(), getSize(), capacity);
+    }
+
+    /**
+     * Adds a value to the back of the queue
+     * @param value Value to add to the queue
+     */
+    public void enqueue(T value) {
+        if (getSize() >= capacity) { throw new IndexOutOfBoundsException("Queue Overflow: Maximum queue capacity has been met"); }
+        inbound.push(value);
+    }
+
+    /**
+     * Retrieves the value at the front of the queue and removes it from the queue
+     * @return Value at the front of the queue
+     */
+    public T dequeue() {
+        transfer();
+        return outbound.pop();
+    }
+
+    /**
+     * Retrieves the value at the front of the queue
+     * @return Value at the front of the queue
+     */
+    public T peek() {
+        transfer();
+        return outbound.peek();
+    }
+
+    /**
+     * Retrieves the combination of every value in the queue from the front to the back
+     * @return The aggregate of the values stored in the queue
+     */
+    public T aggregate() {
+        if (isEmpty()) { throw new IndexOutOfBoundsException("There are no values stored in the current queue"); }
+
+        if (outbound.isEmpty()) { return inbound.aggregate(); }
+        if (inbound.isEmpty()) { return outbound.aggregate(); }
+        return combiner.apply(outbound.aggregate(), inbound.aggregate());
+    }
+
+    /** Moves every inbound value onto the outbound stack if there are no outbound values left */
+    private void transfer() {
+        if (!outbound.isEmpty()) { return; }
+        while (!inbound.isEmpty()) { outbound.push(inbound.pop()); }
+    }
+
+}
@@ -0,0 +1,105 @@
+import java.util.Comparator;
+import java.util.function.BinaryOperator;
+
+/**
+ * A stack of values of type <span><</span>T<span>></span> stored as an array, which keeps a running aggregate of the
+ * values below each slot so that the aggregate of the whole stack can be read without popping
+ * @param <T> A generic parameter representing the data object stored in the stack
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class AggregateStack<T> extends ArrayStack<T> {
+
+    private final Object[] aggregates;
+    private final BinaryOperator<T> combiner;
+
+    /**
+     * <code>AggregateStack</code> Constructor
+     * @param size Maximum number of values that can be stored in the stack
+     * @param combiner Associative function combining two values, applied from the bottom of the stack to the top
+     */
+    public AggregateStack(int size, BinaryOperator<T> combiner) {
+        super(size);
+        this.aggregates = new Object[size];
+        this.combiner = combiner;
+    }
+
+    /**
+     * Creates a stack tracking its smallest value
+     * @param size Maximum number of values that can be stored in the stack
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @return An empty stack whose aggregate is its minimum value
+     */
+    public static <T> AggregateStack<T> min(int size, Comparator<? super T> comparator) {
+        return new AggregateStack<>(size, (a, b) -> comparator.compare(b, a) < 0 ? b : a);
+    }
+
+    /**
+     * Creates a stack tracking its largest value
+     * @param size Maximum number of values that can be stored in the stack
+     * @param comparator Comparator object used to define how the generic object is evaluated relative to another
+     * @return An empty stack whose aggregate is its maximum value
+     */
+    public static <T> AggregateStack<T> max(int size, Comparator<? super T> comparator) {
+        return new AggregateStack<>(size, (a, b) -> comparator.compare(b, a) > 0 ? b : a);
+    }
+
+    /**
+     * Creates a stack tracking the sum of its values
+     * @param size Maximum number of values that can be stored in the stack
+     * @return An empty stack whose aggregate is the sum of its values
+     */
+    public static AggregateStack<Integer> intSum(int size) {
+        return new AggregateStack<>(size, Integer::sum);
+    }
+
+    /**
+     * Creates a stack tracking the sum of its values
+     * @param size Maximum number of values that can be stored in the stack
+     * @return An empty stack whose aggregate is the sum of its values
+     */
+    public static AggregateStack<Long> longSum(int size) {
+        return new AggregateStack<>(size, Long::sum);
+    }
+
+    /**
+     * Creates a stack tracking the sum of its values
+     * @param size Maximum number of values that can be stored in the stack
+     * @return An empty stack whose aggregate is the sum of its values
+     */
+    public static AggregateStack<Double> doubleSum(int size) {
+        return new AggregateStack<>(size, Double::sum);
+    }
+
+    /**
+     * Retrieves the combination of every value in the stack from the bottom to the top
+     * @return The aggregate of the values stored in the stack
+     */
+    public T aggregate() {
+        if (isEmpty()) { throw new IndexOutOfBoundsException("There are no values stored in the current stack"); }
+
+        return (T) aggregates[size-1];
+    }
+
+    /**
+     * Retrieves the combining function used by the stack
+     * @return The stack's combiner
+     */
+    public BinaryOperator<T> getCombiner() { return combiner; }
+
+    @Override
+    public void push(T value) {
+        super.push(value);
+        aggregates[size-1] = size == 1 ? value : combiner.apply((T) aggregates[size-2], value);
+    }
+
+    @Override
+    public T pop() {
+        T value = super.pop();
+        aggregates[size] = null;
+        return value;
+    }
+
+}
@@ -0,0 +1,281 @@
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe stack of values of type <span><</span>T<span>></span> intended for object pooling. Each thread keeps
+ * two small {@link ArrayStack} magazines of its own, so most pushes and pops never touch shared state. Only when both
+ * of a thread's magazines are full, or both are empty, does it exchange a magazine with a shared depot. Values are
+ * therefore returned in last-in first-out order per thread rather than across the whole stack. The magazines of a
+ * thread which finishes without calling {@link #flush} are moved to the depot the next time the depot runs out
+ * @param <T> A generic parameter representing the data object stored in the stack
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class MagazineStack<T> extends Stack<T> {
+
+    /**
+     * A private inner-class holding the magazines owned by a single thread and its statistics. The statistics are
+     * only written by the owning thread. The owner is held weakly so the shard does not keep a finished thread alive
+     */
+    private class Shard {
+
+        private final WeakReference<Thread> owner;
+        private ArrayStack<T> loaded;
+        private ArrayStack<T> previous;
+        private long localHits;
+        private long depotExchanges;
+
+        public Shard() {
+            owner = new WeakReference<>(Thread.currentThread());
+            loaded = new ArrayStack<>(magazineSize);
+            previous = new ArrayStack<>(magazineSize);
+            localHits = 0;
+            depotExchanges = 0;
+        }
+
+        /** Swaps the loaded and previous magazines */
+        public void swap() {
+            ArrayStack<T> temp = loaded;
+            loaded = previous;
+            previous = temp;
+        }
+
+        /** @return <code>True</code> if the thread owning the shard has finished */
+        public boolean isOrphaned() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+
+    }
+
+    private final int magazineSize;
+    private final ThreadLocal<Shard> shards;
+    private final ConcurrentLinkedQueue<Shard> allShards;
+
+    // Statistics of shards whose threads have finished
+    private final AtomicLong reclaimedHits;
+    private final AtomicLong reclaimedExchanges;
+
+    // Depot, guarded by the lock on full
+    private final LinkStack<ArrayStack<T>> full;
+    private final LinkStack<ArrayStack<T>> empty;
+    private int depotSize;
+
+    /**
+     * <code>MagazineStack</code> Constructor
+     * @param magazineSize Number of values each magazine can hold
+     */
+    public MagazineStack(int magazineSize) {
+        super();
+        if (magazineSize <= 0) { throw new IllegalArgumentException("Magazine size must be greater than 0"); }
+
+        this.magazineSize = magazineSize;
+        this.allShards = new ConcurrentLinkedQueue<>();
+        this.shards = ThreadLocal.withInitial(() -> {
+            Shard shard = new Shard();
+            allShards.add(shard);
+            return shard;
+        });
+        this.reclaimedHits = new AtomicLong();
+        this.reclaimedExchanges = new AtomicLong();
+        this.full = new LinkStack<>();
+        this.empty = new LinkStack<>();
+        this.depotSize = 0;
+    }
+
+    /**
+     * Number of values each magazine can hold
+     * @return The capacity of a single magazine
+     */
+    public int getMagazineSize() { return magazineSize; }
+
+    /**
+     * Retrieves an estimate of the size of the stack, which may be out of date while other threads are using it
+     * @return Number of values stored in every thread's magazines and the depot
+     */
+    @Override
+    public int getSize() {
+        reclaim();
+        int total;
+        synchronized (full) { total = depotSize; }
+        for (Shard shard : allShards) { total += shard.loaded.getSize() + shard.previous.getSize(); }
+        return total;
+    }
+
+    @Override
+    public boolean isEmpty() { return getSize() == 0; }
+
+    public String toString() {
+        return String.format("%s: size=%s, magazineSize=%s", this.getClass(), getSize(), magazineSize);
+    }
+
+    @Override
+    public void push(T value) {
+        Shard shard = shards.get();
+        if (shard.loaded.getSize() == magazineSize) {
+            if (shard.previous.getSize() == magazineSize) {
+                // Both magazines are full, hand one to the depot in exchange for an empty one
+                shard.previous = depositFull(shard.previous);
+                shard.depotExchanges++;
+            } else {
+                shard.localHits++;
+            }
+            shard.swap();
+        } else {
+            shard.localHits++;
+        }
+        shard.loaded.push(value);
+    }
+
+    @Override
+    public T pop() {
+        T value = poll();
+        if (value == null) { throw new IndexOutOfBoundsException("There are no values stored in the current stack"); }
+        return value;
+    }
+
+    /**
+     * Retrieves a value from the current thread's magazines, or from a full magazine in the depot if they are empty,
+     * and removes it from the stack
+     * @return Value taken from the stack or <code>NULL</code> if there were no values available
+     */
+    public T poll() {
+        Shard shard = shards.get();
+        if (shard.loaded.isEmpty()) {
+            if (shard.previous.isEmpty()) {
+                // Both magazines are empty, hand one to the depot in exchange for a full one
+                ArrayStack<T> magazine = takeFull(shard.previous);
+                shard.depotExchanges++;
+                if (magazine == null) { return null; }
+                shard.previous = magazine;
+            } else {
+                shard.localHits++;
+            }
+            shard.swap();
+        } else {
+            shard.localHits++;
+        }
+        return shard.loaded.pop();
+    }
+
+    /**
+     * Retrieves the value the current thread would pop next, if it is held in the thread's magazines
+     * @return Value at the top of the current thread's magazines
+     */
+    @Override
+    public T peek() {
+        Shard shard = shards.get();
+        if (!shard.loaded.isEmpty()) { return shard.loaded.peek(); }
+        if (!shard.previous.isEmpty()) { return shard.previous.peek(); }
+        throw new IndexOutOfBoundsException("There are no values stored in the current thread's magazines");
+    }
+
+    /**
+     * Returns the current thread's values to the depot so they can be taken by other threads. Should be called
+     * before a thread that has pushed values finishes
+     */
+    public void flush() {
+        Shard shard = shards.get();
+        if (!shard.loaded.isEmpty()) {
+            shard.loaded = depositFull(shard.loaded);
+            shard.depotExchanges++;
+        }
+        if (!shard.previous.isEmpty()) {
+            shard.previous = depositFull(shard.previous);
+            shard.depotExchanges++;
+        }
+    }
+
+    /**
+     * Number of pushes and pops served by the threads' own magazines
+     * @return An estimate of the number of operations which did not touch the depot
+     */
+    public long getLocalHitCount() {
+        long hits = reclaimedHits.get();
+        for (Shard shard : allShards) { hits += shard.localHits; }
+        return hits;
+    }
+
+    /**
+     * Number of times a thread had to go to the depot to exchange a magazine
+     * @return An estimate of the number of operations which touched the depot
+     */
+    public long getDepotExchangeCount() {
+        long exchanges = reclaimedExchanges.get();
+        for (Shard shard : allShards) { exchanges += shard.depotExchanges; }
+        return exchanges;
+    }
+
+    /** @return The ratio of local hits to all pushes and pops, or 0 if there have been none */
+    public double getLocalHitRate() {
+        long hits = getLocalHitCount();
+        long total = hits + getDepotExchangeCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Adds a magazine holding values to the depot
+     * @param magazine Magazine to give to the depot, which may be partially filled
+     * @return An empty magazine from the depot, or a new magazine if the depot has none
+     */
+    private ArrayStack<T> depositFull(ArrayStack<T> magazine) {
+        synchronized (full) {
+            full.push(magazine);
+            depotSize += magazine.getSize();
+            return empty.isEmpty() ? new ArrayStack<>(magazineSize) : empty.pop();
+        }
+    }
+
+    /**
+     * Exchanges an empty magazine for one holding values from the depot
+     * @param magazine Empty magazine to give to the depot
+     * @return A magazine holding values or <code>NULL</code> if the depot has none, in which case the empty magazine
+     * is not taken
+     */
+    private ArrayStack<T> takeFull(ArrayStack<T> magazine) {
+        synchronized (full) {
+            if (full.isEmpty()) { reclaim(); }
+            if (full.isEmpty()) { return null; }
+            ArrayStack<T> loaded = full.pop();
+            depotSize -= loaded.getSize();
+            empty.push(magazine);
+            return loaded;
+        }
+    }
+
+    /**
+     * Moves the magazines of threads which finished without calling {@link #flush} into the depot, so other threads
+     * can take their values, and stops tracking their shards
+     */
+    private void reclaim() {
+        for (Shard shard : allShards) {
+            // Removing the shard claims it, so a shard is only reclaimed once
+            if (!shard.isOrphaned() || !allShards.remove(shard)) { continue; }
+
+            reclaimedHits.addAndGet(shard.localHits);
+            reclaimedExchanges.addAndGet(shard.depotExchanges);
+            synchronized (full) {
+                restock(shard.loaded);
+                restock(shard.previous);
+            }
+        }
+    }
+
+    /**
+     * Returns a magazine to the depot as a full magazine if it holds values, or as an empty one otherwise. Must be
+     * called while holding the lock on the depot
+     * @param magazine Magazine to return
+     */
+    private void restock(ArrayStack<T> magazine) {
+        if (magazine.isEmpty()) {
+            empty.push(magazine);
+        } else {
+            full.push(magazine);
+            depotSize += magazine.getSize();
+        }
+    }
+
+}
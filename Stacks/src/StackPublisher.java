@@ -0,0 +1,69 @@
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A publisher which drains a stack of values of type <span><</span>T<span>></span>, emitting them in the order they
+ * are popped. The stack is locked while each batch is popped, so other threads pushing to it should use
+ * {@link #push} or synchronize on the stack
+ * @param <T> A generic parameter representing the data object stored in the stack
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class StackPublisher<T> extends DrainPublisher<T> {
+
+    private final Stack<T> stack;
+
+    /**
+     * <code>StackPublisher</code> Constructor
+     * @param stack The stack to drain
+     * @param batchSize Maximum number of values popped from the stack at once
+     */
+    public StackPublisher(Stack<T> stack, int batchSize) {
+        super(batchSize);
+        this.stack = stack;
+    }
+
+    /**
+     * <code>StackPublisher</code> Constructor
+     * @param stack The stack to drain
+     * @param batchSize Maximum number of values popped from the stack at once
+     * @param executor Executor used to emit values to the subscriber
+     */
+    public StackPublisher(Stack<T> stack, int batchSize, Executor executor) {
+        super(batchSize, executor);
+        this.stack = stack;
+    }
+
+    /**
+     * Push a value to the stack
+     * @param value Value to add to the stack
+     * @exception IllegalStateException If the publisher has been closed
+     */
+    public void push(T value) {
+        synchronized (stack) {
+            if (isClosed()) { throw new IllegalStateException("Values cannot be added once the publisher is closed"); }
+            stack.push(value);
+        }
+        signal();
+    }
+
+    @Override
+    protected int take(List<T> batch, int max) {
+        synchronized (stack) {
+            int n = 0;
+            while (n < max && !stack.isEmpty()) {
+                batch.add(stack.pop());
+                n++;
+            }
+            return n;
+        }
+    }
+
+    @Override
+    protected boolean isDrained() {
+        synchronized (stack) { return stack.isEmpty(); }
+    }
+
+}
@@ -0,0 +1,183 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A Chase-Lev work-stealing deque of values of type <span><</span>T<span>></span> stored in a growable circular array.
+ * A single owner thread uses it as a stack, pushing and popping at the bottom without locking, while any number of
+ * other threads can steal the oldest values from the top using compare-and-set
+ * @param <T> A generic parameter representing the data object stored in the stack
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class WorkStealingDeque<T> extends Stack<T> {
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Index of the oldest value, only advanced by a successful steal or by the owner taking the last value
+    private volatile long top;
+    // Index one past the newest value, only written by the owner
+    private long bottom;
+    private volatile Object[] array;
+
+    /**
+     * <code>WorkStealingDeque</code> Constructor
+     * @param size Initial capacity of the deque, rounded up to a power of two. The array doubles when it is full
+     */
+    public WorkStealingDeque(int size) {
+        super();
+        int capacity = 2;
+        while (capacity < size) { capacity <<= 1; }
+        array = new Object[capacity];
+        top = 0;
+        bottom = 0;
+    }
+
+    /**
+     * Number of values that can be stored before the array grows
+     * @return The current capacity of the deque
+     */
+    public int getCapacity() { return array.length; }
+
+    /**
+     * Retrieves an estimate of the size of the deque, which may be out of date if other threads are stealing
+     * @return Number of values stored in the deque
+     */
+    @Override
+    public int getSize() {
+        long n = (long) BOTTOM.getAcquire(this) - top;
+        return (int) Math.max(0, n);
+    }
+
+    @Override
+    public boolean isEmpty() { return getSize() == 0; }
+
+    public String toString() {
+        return String.format("%s: size=%s, capacity=%s", this.getClass(), getSize(), getCapacity());
+    }
+
+    /**
+     * Push a value to the bottom of the deque. Must only be called by the owner thread
+     * @param value Value to add to the deque
+     * @exception NullPointerException If the <code>value</code> is <code>NULL</code>
+     */
+    @Override
+    public void push(T value) {
+        if (value == null) { throw new NullPointerException("Null values cannot be stored in the deque"); }
+
+        long b = (long) BOTTOM.getOpaque(this);
+        long t = (long) TOP.getAcquire(this);
+        Object[] a = array;
+        if (b - t > a.length - 1) { a = grow(a, t, b); }
+
+        SLOT.setRelease(a, (int) b & (a.length - 1), value);
+        // Publish the value before thieves can see the new bottom
+        BOTTOM.setRelease(this, b + 1);
+    }
+
+    /**
+     * Retrieves the newest value and removes it from the deque. Must only be called by the owner thread
+     * @return Value at the bottom of the deque
+     * @exception IndexOutOfBoundsException If the deque is empty
+     */
+    @Override
+    public T pop() {
+        T value = poll();
+        if (value == null) { throw new IndexOutOfBoundsException("There are no values stored in the current stack"); }
+        return value;
+    }
+
+    /**
+     * Retrieves the newest value and removes it from the deque. Must only be called by the owner thread
+     * @return Value at the bottom of the deque or <code>NULL</code> if the deque is empty
+     */
+    public T poll() {
+        long b = (long) BOTTOM.getOpaque(this) - 1;
+        Object[] a = array;
+        BOTTOM.setOpaque(this, b);
+        // The new bottom must be visible to thieves before top is read, so both sides cannot take the same value
+        VarHandle.fullFence();
+        long t = (long) TOP.getOpaque(this);
+
+        if (t > b) {
+            // Already empty
+            BOTTOM.setOpaque(this, b + 1);
+            return null;
+        }
+
+        int i = (int) b & (a.length - 1);
+        T value = (T) SLOT.getAcquire(a, i);
+        if (t == b) {
+            // Last value, race any thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) { value = null; }
+            BOTTOM.setOpaque(this, b + 1);
+        }
+        if (value != null) { SLOT.compareAndSet(a, i, value, null); }
+        return value;
+    }
+
+    /**
+     * Retrieves the newest value without removing it. Must only be called by the owner thread
+     * @return Value at the bottom of the deque
+     * @exception IndexOutOfBoundsException If the deque is empty
+     */
+    @Override
+    public T peek() {
+        long b = (long) BOTTOM.getOpaque(this) - 1;
+        Object[] a = array;
+        T value = b < top ? null : (T) SLOT.getAcquire(a, (int) b & (a.length - 1));
+        if (value == null) { throw new IndexOutOfBoundsException("There are no values stored in the current stack"); }
+        return value;
+    }
+
+    /**
+     * Retrieves the oldest value and removes it from the deque. May be called by any thread
+     * @return Value at the top of the deque or <code>NULL</code> if the deque is empty or another thread took the
+     * value first
+     */
+    public T steal() {
+        long t = (long) TOP.getAcquire(this);
+        // Top must be read before bottom, matching the fence in poll
+        VarHandle.fullFence();
+        long b = (long) BOTTOM.getAcquire(this);
+        if (t >= b) { return null; }
+
+        Object[] a = array;
+        int i = (int) t & (a.length - 1);
+        T value = (T) SLOT.getAcquire(a, i);
+        // The slot is left for the owner to overwrite, as it may already have been reused by the time it is cleared
+        if (value == null || !TOP.compareAndSet(this, t, t + 1)) { return null; }
+        return value;
+    }
+
+    /**
+     * Doubles the capacity of the array, copying the values between <code>top</code> and <code>bottom</code>.
+     * Thieves still reading the old array find the same values at the same indices
+     * @param a Current array
+     * @param t Index of the oldest value
+     * @param b Index one past the newest value
+     * @return The new array
+     */
+    private Object[] grow(Object[] a, long t, long b) {
+        Object[] grown = new Object[a.length << 1];
+        for (long i = t; i < b; i++) {
+            grown[(int) i & (grown.length - 1)] = SLOT.getAcquire(a, (int) i & (a.length - 1));
+        }
+        array = grown;
+        return grown;
+    }
+
+}
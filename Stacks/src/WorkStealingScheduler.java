@@ -0,0 +1,198 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A minimal task scheduler where each worker thread owns a {@link WorkStealingDeque}. Workers run their own newest
+ * tasks first and steal the oldest tasks of a random worker once their own deque is empty, which spreads work that
+ * is forked from a single thread across every worker
+ *
+ * @author Benjamin Wong
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class WorkStealingScheduler {
+
+    /** Initial capacity of each worker's deque */
+    private static final int DEQUE_SIZE = 256;
+    /** Time an idle worker waits before looking for work again */
+    private static final long IDLE_NANOS = 50_000;
+
+    /** Sum of the results of the demo tasks, printed so their work cannot be optimised away */
+    private static final LongAdder checksum = new LongAdder();
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<Runnable> submissions;
+    private final AtomicLong pending;
+    private final AtomicLongArray executed;
+    private final AtomicLongArray stolen;
+    private volatile boolean running;
+
+    /**
+     * A worker thread with its own deque of forked tasks
+     */
+    private class Worker extends Thread {
+
+        private final int index;
+        private final WorkStealingDeque<Runnable> deque;
+
+        public Worker(int index) {
+            super("work-stealing-worker-" + index);
+            this.index = index;
+            this.deque = new WorkStealingDeque<>(DEQUE_SIZE);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Runnable task = deque.poll();
+                if (task == null) { task = submissions.poll(); }
+                if (task == null) {
+                    task = steal();
+                    if (task != null) { stolen.incrementAndGet(index); }
+                }
+
+                if (task == null) {
+                    LockSupport.parkNanos(IDLE_NANOS);
+                    continue;
+                }
+
+                try { task.run(); }
+                finally {
+                    executed.incrementAndGet(index);
+                    pending.decrementAndGet();
+                }
+            }
+        }
+
+        /** @return A task taken from another worker, or <code>NULL</code> if none could be found */
+        private Runnable steal() {
+            int start = ThreadLocalRandom.current().nextInt(workers.length);
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+                if (victim == this) { continue; }
+                Runnable task = victim.deque.steal();
+                if (task != null) { return task; }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * <code>WorkStealingScheduler</code> Constructor which starts the worker threads
+     * @param threads Number of worker threads
+     */
+    public WorkStealingScheduler(int threads) {
+        if (threads <= 0) { throw new IllegalArgumentException("Number of threads must be greater than 0"); }
+
+        submissions = new ConcurrentLinkedQueue<>();
+        pending = new AtomicLong();
+        executed = new AtomicLongArray(threads);
+        stolen = new AtomicLongArray(threads);
+        running = true;
+
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) { workers[i] = new Worker(i); }
+        for (Worker w : workers) { w.start(); }
+    }
+
+    /**
+     * Schedules a task. When called from a worker the task is pushed onto that worker's deque, otherwise it is
+     * placed in a shared queue read by idle workers
+     * @param task Task to run
+     */
+    public void fork(Runnable task) {
+        pending.incrementAndGet();
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker && isOwnWorker((Worker) current)) {
+            ((Worker) current).deque.push(task);
+        } else {
+            submissions.add(task);
+        }
+    }
+
+    /** Waits until every scheduled task, including tasks they fork, has finished */
+    public void awaitQuiescence() {
+        while (pending.get() > 0) { LockSupport.parkNanos(IDLE_NANOS); }
+    }
+
+    /** Stops the worker threads once they finish their current task */
+    public void shutdown() {
+        running = false;
+        for (Worker w : workers) { LockSupport.unpark(w); }
+    }
+
+    /**
+     * Number of tasks run by each worker
+     * @return An array holding the count for each worker
+     */
+    public long[] getExecutedCounts() { return toArray(executed); }
+
+    /**
+     * Number of tasks each worker has stolen from another worker
+     * @return An array holding the count for each worker
+     */
+    public long[] getStolenCounts() { return toArray(stolen); }
+
+    /**
+     * @param worker Worker thread
+     * @return <code>True</code> if the worker belongs to this scheduler
+     */
+    private boolean isOwnWorker(Worker worker) {
+        return worker.index < workers.length && workers[worker.index] == worker;
+    }
+
+    private static long[] toArray(AtomicLongArray counts) {
+        long[] values = new long[counts.length()];
+        for (int i = 0; i < values.length; i++) { values[i] = counts.get(i); }
+        return values;
+    }
+
+    /**
+     * Forks a binary tree of tasks from a single submission and prints how many tasks each worker ran and stole
+     * @param args Optional tree depth and number of worker threads
+     */
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        WorkStealingScheduler scheduler = new WorkStealingScheduler(threads);
+
+        long start = System.nanoTime();
+        scheduler.fork(() -> split(scheduler, 0, depth));
+        scheduler.awaitQuiescence();
+        long elapsed = System.nanoTime() - start;
+        scheduler.shutdown();
+
+        long[] executed = scheduler.getExecutedCounts();
+        long[] stolen = scheduler.getStolenCounts();
+        long total = 0;
+        for (int i = 0; i < executed.length; i++) {
+            System.out.printf("worker %2d: executed=%d, stolen=%d%n", i, executed[i], stolen[i]);
+            total += executed[i];
+        }
+        System.out.printf("%d tasks over %d levels in %.1f ms (checksum %x)%n", total, depth, elapsed / 1e6, checksum.sum());
+    }
+
+    /**
+     * Demo task which does a small amount of work then forks two children until the maximum depth is reached
+     * @param scheduler Scheduler to fork onto
+     * @param level Depth of the current task
+     * @param depth Maximum depth
+     */
+    private static void split(WorkStealingScheduler scheduler, int level, int depth) {
+        long x = level;
+        for (int i = 0; i < 2_000; i++) { x = x * 6364136223846793005L + 1442695040888963407L; }
+        checksum.add(x);
+
+        if (level < depth) {
+            scheduler.fork(() -> split(scheduler, level + 1, depth));
+            scheduler.fork(() -> split(scheduler, level + 1, depth));
+        }
+    }
+
+}